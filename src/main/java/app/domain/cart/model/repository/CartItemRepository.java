@@ -1,9 +1,13 @@
 package app.domain.cart.model.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.cart.model.entity.CartItem;
@@ -13,4 +17,9 @@ public interface CartItemRepository extends JpaRepository<CartItem, UUID> {
 	List<CartItem> findByCart_CartId(UUID cartId);
 
 	void deleteByCart_CartId(UUID cartId);
-}
\ No newline at end of file
+
+	// 파생 delete 는 행마다 조회 후 삭제하므로 벌크 삭제 쿼리 한 번으로
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from CartItem ci where ci.cart.cartId in :cartIds")
+	int deleteAllByCartIds(@Param("cartIds") Collection<UUID> cartIds);
+}
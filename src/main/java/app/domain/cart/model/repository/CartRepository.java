@@ -1,5 +1,7 @@
 package app.domain.cart.model.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,6 @@ import app.domain.cart.model.entity.Cart;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, UUID> {
 	Optional<Cart> findByUserId(Long userId);
-}
\ No newline at end of file
+
+	List<Cart> findByUserIdIn(Collection<Long> userIds);
+}
@@ -0,0 +1,124 @@
+package app.domain.cart.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장바구니 세션 만료 시 DB 저장.
+ * 세션 TTL 은 cart-ttl:{<userId>} 표시 키에 걸고 장바구니 데이터는 유예 시간만큼 더 남긴다.
+ * 표시 키와 유예는 이 리스너가 켜져 있을 때(cart.persist-on-expiry.enabled=true)만 CartRedisServiceImpl 이 만든다.
+ * 표시 키의 expired/evicted 이벤트를 받으면 cart-claim 키를 잡고(한 파드만 성공) p_cart_item 에 저장한 뒤,
+ * 커밋이 끝나야 Redis 에서 장바구니와 dirty 표시를 지운다.
+ * 저장에 실패하거나 파드가 중간에 죽으면 장바구니와 dirty 표시가 그대로 남는다. claim 키가 만료되면 다시 시도하고,
+ * 그 전에 주기 동기화가 먼저 가져갈 수도 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cart.persist-on-expiry.enabled", havingValue = "true")
+public class CartExpiryListener implements MessageListener {
+
+	private final CartRedisService cartRedisService;
+	private final CartSyncWorker worker;
+	private final Counter persistedCounter;
+	private final Counter failedCounter;
+
+	public CartExpiryListener(
+		CartRedisService cartRedisService,
+		CartSyncWorker worker,
+		RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${cart.persist-on-expiry.configure-notifications:true}") boolean configureNotifications
+	) {
+		this.cartRedisService = cartRedisService;
+		this.worker = worker;
+		this.persistedCounter = Counter.builder("cart.expiry.persist").tag("result", "persisted").register(meterRegistry);
+		this.failedCounter = Counter.builder("cart.expiry.persist").tag("result", "failed").register(meterRegistry);
+		if (configureNotifications) {
+			enableNotifications(redisTemplate);
+		}
+		listenerContainer.addMessageListener(this,
+			List.of(new PatternTopic("__keyevent@*__:expired"), new PatternTopic("__keyevent@*__:evicted")));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String key = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (!CartRedisKeys.isTtlMarker(key) && !CartRedisKeys.isClaim(key)) {
+			return;
+		}
+		Long userId;
+		try {
+			userId = CartRedisKeys.userId(key);
+		} catch (NumberFormatException e) {
+			return;
+		}
+
+		List<RedisCartItem> items;
+		try {
+			items = cartRedisService.claimExpiredCart(userId).orElse(null);
+		} catch (Exception e) {
+			log.warn("[Cart] expiry claim failed userId={} err={}", userId, e.toString());
+			return;
+		}
+		if (items == null) {
+			return;
+		}
+
+		try {
+			worker.syncChunk(Map.of(userId, items));
+			persistedCounter.increment();
+		} catch (Exception e) {
+			// claim 키가 만료되면 다시 가져간다. 장바구니와 dirty 표시는 남아 있다
+			failedCounter.increment();
+			log.warn("[Cart] expiry persist failed userId={} err={}", userId, e.toString());
+			return;
+		}
+
+		try {
+			cartRedisService.completeExpiredCart(userId);
+		} catch (Exception e) {
+			// DB 에는 저장됐다. 남은 장바구니는 claim 만료 뒤 다시 저장(같은 내용)하고 지운다
+			log.warn("[Cart] expiry cleanup failed userId={} err={}", userId, e.toString());
+		}
+	}
+
+	// notify-keyspace-events 에 E(키 이벤트), x(만료), e(축출)를 기존 설정에 더한다. 관리형 Redis 는 직접 설정해야 할 수 있다
+	private static void enableNotifications(RedisTemplate<String, String> redisTemplate) {
+		try {
+			redisTemplate.execute((RedisCallback<Void>) connection -> {
+				Properties current = connection.serverCommands().getConfig("notify-keyspace-events");
+				String flags = current == null ? "" : current.getProperty("notify-keyspace-events", "");
+				String wanted = flags;
+				for (String flag : List.of("E", "x", "e")) {
+					if (!wanted.contains(flag) && !(wanted.contains("A") && !"E".equals(flag))) {
+						wanted += flag;
+					}
+				}
+				if (!wanted.equals(flags)) {
+					connection.serverCommands().setConfig("notify-keyspace-events", wanted);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("[Cart] could not enable keyspace notifications: {}", e.toString());
+		}
+	}
+}
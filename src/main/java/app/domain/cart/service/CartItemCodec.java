@@ -0,0 +1,16 @@
+package app.domain.cart.service;
+
+import app.domain.cart.model.dto.RedisCartItem;
+
+/**
+ * 장바구니 해시 값 인코딩. 필드 이름은 항상 menuId, 매장 ID 는 _meta 필드에 장바구니당 한 번만 둔다.
+ * Lua 스크립트도 같은 형식을 읽고 쓰므로 format() 값은 스크립트 인자로 그대로 넘어간다.
+ */
+public interface CartItemCodec {
+
+	String format();
+
+	String encode(RedisCartItem item);
+
+	RedisCartItem decode(String menuId, String storeId, String value);
+}
@@ -0,0 +1,53 @@
+package app.domain.cart.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장바구니 키 SCAN. 클러스터에서는 SCAN 이 노드 단위이므로 마스터 노드마다 커서를 돌린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartKeyScanner {
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public long scan(int count, Consumer<String> consumer) {
+		ScanOptions options = ScanOptions.scanOptions().match(CartRedisKeys.PATTERN).count(count).build();
+		Long scanned = redisTemplate.execute((RedisCallback<Long>) connection -> {
+			long n = 0;
+			if (connection instanceof RedisClusterConnection cluster) {
+				for (RedisClusterNode node : cluster.clusterGetNodes()) {
+					if (node.isMaster()) {
+						n += drain(cluster.scan(node, options), consumer);
+					}
+				}
+			} else {
+				n += drain(connection.keyCommands().scan(options), consumer);
+			}
+			return n;
+		});
+		return scanned == null ? 0 : scanned;
+	}
+
+	private static long drain(Cursor<byte[]> cursor, Consumer<String> consumer) {
+		long n = 0;
+		try (cursor) {
+			while (cursor.hasNext()) {
+				consumer.accept(new String(cursor.next(), StandardCharsets.UTF_8));
+				n++;
+			}
+		}
+		return n;
+	}
+}
@@ -0,0 +1,96 @@
+package app.domain.cart.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 이전 형식 장바구니 키('' 문자열 / _meta 없는 해시)를 _meta 해시 형식으로 변환한다.
+ * 이전 형식 키(cart:<userId>, cart:{<bucket>}:<userId>)는 cart:{<userId>} 로 옮기고 DB 동기화 대상으로 표시한다.
+ * 이전 dirty 집합(carts:dirty, carts:dirty:{<bucket>})은 CartRedisServiceImpl.popDirtyCarts 가 함께 비운다.
+ * 변환 전 키는 읽기/쓰기 스크립트에서도 처리되므로 이 작업은 백필 용도다. 여러 파드가 동시에 돌아도 멱등.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartLayoutMigrator implements ApplicationRunner {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final CartKeyScanner keyScanner;
+
+	@Value("${cart.redis.migrate-on-startup:true}")
+	private boolean enabled;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!enabled) {
+			return;
+		}
+		AtomicLong migrated = new AtomicLong();
+		AtomicLong renamed = new AtomicLong();
+		long scanned;
+		try {
+			scanned = keyScanner.scan(500, key -> {
+				Long changed = redisTemplate.execute(CartRedisScripts.MIGRATE, List.of(key));
+				if (changed != null && changed > 0) {
+					migrated.incrementAndGet();
+				}
+				if (CartRedisKeys.isLegacy(key) && move(key)) {
+					renamed.incrementAndGet();
+				}
+			});
+		} catch (Exception e) {
+			log.warn("[Cart] layout migration stopped: {}", e.toString());
+			return;
+		}
+		if (migrated.get() > 0 || renamed.get() > 0) {
+			log.info("[Cart] migrated {} / renamed {} of {} cart keys", migrated.get(), renamed.get(), scanned);
+		}
+	}
+
+	// 클러스터에서는 슬롯이 달라 RENAME 을 쓸 수 없으므로 DUMP/RESTORE 로 옮긴다 (TTL 유지).
+	// 새 키가 이미 있으면(그 사이 DB 에서 다시 로드됨) 새 키가 기준이므로 이전 키는 버린다.
+	// 새 키 생성 -> dirty 표시 -> 이전 키 삭제 순서라 중간에 멈춰도 다음 실행이 이어서 끝낸다
+	private boolean move(String legacyKey) {
+		Long userId = CartRedisKeys.userId(legacyKey);
+		String key = CartRedisKeys.cart(userId);
+		boolean moved = false;
+		try {
+			if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+				byte[] value = redisTemplate.dump(legacyKey);
+				if (value != null) {
+					Long ttl = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+					// 그 사이 새 키가 생기면 BUSYKEY 로 실패하고 다음 실행에서 이전 키만 지운다
+					redisTemplate.restore(key, value, ttl != null && ttl > 0 ? ttl : 0, TimeUnit.MILLISECONDS);
+					redisTemplate.opsForSet().add(CartRedisKeys.dirty(userId), key);
+					moved = true;
+				}
+			}
+			moveTtlMarker(legacyKey, userId);
+			redisTemplate.delete(legacyKey);
+		} catch (Exception e) {
+			log.warn("[Cart] could not move {}: {}", legacyKey, e.toString());
+		}
+		return moved;
+	}
+
+	// 세션 만료 표시 키도 남은 TTL 그대로 새 형식으로 옮긴다 (만료 시 저장을 쓸 때만 있다)
+	private void moveTtlMarker(String legacyKey, Long userId) {
+		String legacyMarker = CartRedisKeys.TTL_PREFIX + legacyKey.substring(CartRedisKeys.PREFIX.length());
+		Long ttl = redisTemplate.getExpire(legacyMarker, TimeUnit.MILLISECONDS);
+		if (ttl != null && ttl > 0) {
+			redisTemplate.opsForValue().setIfAbsent(CartRedisKeys.ttlMarker(userId), "1", Duration.ofMillis(ttl));
+			redisTemplate.delete(legacyMarker);
+		}
+	}
+}
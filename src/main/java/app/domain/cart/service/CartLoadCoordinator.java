@@ -0,0 +1,119 @@
+package app.domain.cart.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.cart.status.CartErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장바구니 DB → Redis 로드 single-flight.
+ * 파드 안에서는 userId 별 future 하나로 합치고, 파드 간에는 짧은 Redisson 락으로 한 곳만 DB 를 읽게 한다.
+ * 락을 잡은 뒤 Redis 를 다시 확인하므로 다른 파드가 먼저 올린 장바구니는 다시 읽지 않는다.
+ * 락 대기가 끝날 때까지 Redis 에 올라오지 않았으면 DB 를 읽지 않고 CART_LOAD_TIMEOUT 으로 실패한다.
+ */
+@Slf4j
+@Component
+public class CartLoadCoordinator {
+
+	private static final String LOCK_PREFIX = "lock:cart-load:";
+
+	private final CartRedisService cartRedisService;
+	private final RedissonClient redissonClient;
+	private final Map<Long, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+	private final Counter loadedCounter;
+	private final Counter coalescedCounter;
+	private final Counter skippedCounter;
+
+	@Value("${cart.load.lock-wait:PT2S}")
+	private Duration lockWait;
+
+	// 락 보유 상한 (로드 중 파드가 죽어도 풀리도록)
+	@Value("${cart.load.lock-lease:PT5S}")
+	private Duration lockLease;
+
+	public CartLoadCoordinator(CartRedisService cartRedisService, RedissonClient redissonClient,
+		MeterRegistry meterRegistry) {
+		this.cartRedisService = cartRedisService;
+		this.redissonClient = redissonClient;
+		this.loadedCounter = Counter.builder("cart.load").tag("result", "loaded").register(meterRegistry);
+		this.coalescedCounter = Counter.builder("cart.load").tag("result", "coalesced").register(meterRegistry);
+		this.skippedCounter = Counter.builder("cart.load").tag("result", "loaded-elsewhere").register(meterRegistry);
+	}
+
+	public void load(Long userId, Runnable loader) {
+		CompletableFuture<Void> mine = new CompletableFuture<>();
+		CompletableFuture<Void> existing = inFlight.putIfAbsent(userId, mine);
+		if (existing != null) {
+			coalescedCounter.increment();
+			await(existing);
+			return;
+		}
+		try {
+			loadExclusively(userId, loader);
+			mine.complete(null);
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(userId, mine);
+		}
+	}
+
+	private void loadExclusively(Long userId, Runnable loader) {
+		RLock lock = redissonClient.getLock(LOCK_PREFIX + userId);
+		boolean locked = false;
+		try {
+			locked = lock.tryLock(lockWait.toMillis(), lockLease.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException(CartErrorStatus.CART_LOAD_TIMEOUT);
+		}
+		try {
+			if (cartRedisService.existsCartInRedis(userId)) {
+				skippedCounter.increment();
+				return;
+			}
+			if (!locked) {
+				// 다른 파드의 로드가 길어지는 경우: 락 없이 읽으면 Cart 행을 중복 생성할 수 있으므로 실패시킨다
+				log.warn("[Cart] load lock wait timed out userId={}", userId);
+				throw new GeneralException(CartErrorStatus.CART_LOAD_TIMEOUT);
+			}
+			loader.run();
+			loadedCounter.increment();
+		} finally {
+			if (locked && lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void await(CompletableFuture<Void> future) {
+		try {
+			future.get(lockWait.plus(lockLease).toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+		} catch (TimeoutException e) {
+			throw new GeneralException(CartErrorStatus.CART_LOAD_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException(CartErrorStatus.CART_LOAD_TIMEOUT);
+		}
+	}
+}
@@ -16,38 +16,23 @@ public class CartMcpService {
 	private final CartService cartService;
 
 	public String addCartItem(Long userId, AddCartItemRequest request) {
-
-		List<RedisCartItem> items = getCartFromCache(userId);
-
-		if (!items.isEmpty() && !items.get(0).getStoreId().equals(request.getStoreId())) {
-			items.clear();
-		}
-
-		boolean isExist = items.stream().anyMatch(i -> i.getMenuId().equals(request.getMenuId()));
-		if (isExist) {
-			items.stream()
-				.filter(item -> item.getMenuId().equals(request.getMenuId()))
-				.findFirst()
-				.ifPresent(item -> item.setQuantity(item.getQuantity() + request.getQuantity()));
-		} else {
-			items.add(RedisCartItem.builder()
-				.menuId(request.getMenuId())
-				.storeId(request.getStoreId())
-				.quantity(request.getQuantity())
-				.build());
-		}
-
-		return cartRedisService.saveCartToRedis(userId, items);
+		cartService.ensureCartLoaded(userId);
+		cartRedisService.addCartItem(userId, request.getMenuId(), request.getStoreId(), request.getQuantity());
+		return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
 	}
 
 
 	public List<RedisCartItem> getCartFromCache(Long userId) {
-		if (!cartRedisService.existsCartInRedis(userId)) {
-			cartService.loadDbToRedis(userId);
-		}
+		cartService.ensureCartLoaded(userId);
 		return cartRedisService.getCartFromRedis(userId);
 	}
 
+	// 주문 생성용: near-cache 를 거치지 않은 최신 장바구니
+	public List<RedisCartItem> getCartForOrder(Long userId) {
+		cartService.ensureCartLoaded(userId);
+		return cartRedisService.getLatestCartFromRedis(userId);
+	}
+
 	public String clearCartItems(Long userId) {
 		return cartRedisService.clearCartItems(userId);
 	}
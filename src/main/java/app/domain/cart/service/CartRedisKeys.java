@@ -0,0 +1,105 @@
+package app.domain.cart.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+// 장바구니 키 규칙. 사용자마다 자기 해시 태그를 써 장바구니가 클러스터 슬롯 전체에 고르게 퍼진다
+//   cart:{<userId>}, cart-ttl:{<userId>}, cart-dirty:{<슬롯 태그>}
+// dirty 집합은 슬롯마다 하나다. 태그를 그 슬롯으로 해시되는 문자열로 골라 두므로 같은 슬롯의 장바구니와 한 스크립트에서 처리된다
+final class CartRedisKeys {
+
+	static final String PREFIX = "cart:";
+	static final String PATTERN = PREFIX + "*";
+	// 세션 TTL 표시 키. 장바구니와 같은 해시 태그를 쓰되 cart:* 패턴에는 걸리지 않는다
+	static final String TTL_PREFIX = "cart-ttl:";
+	// 만료 장바구니를 DB 에 저장 중인 파드 표시. 만료되면(저장 실패/파드 종료) 만료 리스너가 다시 시도한다
+	static final String CLAIM_PREFIX = "cart-claim:";
+	// 마지막 DB 동기화 이후 바뀐 장바구니 키 집합 (슬롯별). cart:* 패턴에 걸리지 않도록 접두사를 다르게 둔다
+	static final String DIRTY_PREFIX = "cart-dirty:";
+
+	// Redis Cluster 해시 슬롯 수 (CRC16 mod 16384, 클러스터 규격상 고정)
+	static final int SLOTS = 16384;
+
+	// 이전 dirty 집합 (단일 집합 carts:dirty, 16 버킷 carts:dirty:{<bucket>}). 남은 항목만 비운다
+	static final List<String> LEGACY_DIRTY_KEYS = legacyDirtyKeys();
+
+	// 슬롯 번호 -> 그 슬롯으로 해시되는 가장 짧은 태그 (CRC16 으로 정해지므로 배포마다 같다)
+	private static final String[] SLOT_TAGS = slotTags();
+
+	private CartRedisKeys() {
+	}
+
+	static String cart(Long userId) {
+		return PREFIX + "{" + userId + "}";
+	}
+
+	static String ttlMarker(Long userId) {
+		return TTL_PREFIX + "{" + userId + "}";
+	}
+
+	static String claim(Long userId) {
+		return CLAIM_PREFIX + "{" + userId + "}";
+	}
+
+	static int slot(Long userId) {
+		return ClusterSlotHashUtil.calculateSlot(String.valueOf(userId));
+	}
+
+	static String dirty(Long userId) {
+		return dirtySlot(slot(userId));
+	}
+
+	static String dirtySlot(int slot) {
+		return DIRTY_PREFIX + "{" + SLOT_TAGS[slot] + "}";
+	}
+
+	static boolean isTtlMarker(String key) {
+		return key.startsWith(TTL_PREFIX);
+	}
+
+	static boolean isClaim(String key) {
+		return key.startsWith(CLAIM_PREFIX);
+	}
+
+	// 이전 형식 키 (cart:<userId>, cart:{<bucket>}:<userId>)
+	static boolean isLegacy(String key) {
+		return key.startsWith(PREFIX) && !(key.startsWith(PREFIX + "{") && key.endsWith("}"));
+	}
+
+	static Long userId(String key) {
+		// 접두사(cart:, cart-ttl:, cart-claim:)는 모두 첫 ':' 까지
+		String id = key.substring(key.indexOf(':') + 1);
+		int tagEnd = id.indexOf("}:");
+		if (id.startsWith("{") && tagEnd > 0) {
+			id = id.substring(tagEnd + 2);
+		} else if (id.startsWith("{") && id.endsWith("}")) {
+			id = id.substring(1, id.length() - 1);
+		}
+		return Long.parseLong(id);
+	}
+
+	private static String[] slotTags() {
+		String[] tags = new String[SLOTS];
+		int found = 0;
+		for (int i = 0; found < SLOTS; i++) {
+			String tag = Integer.toString(i, 36);
+			int slot = ClusterSlotHashUtil.calculateSlot(tag);
+			if (tags[slot] == null) {
+				tags[slot] = tag;
+				found++;
+			}
+		}
+		return tags;
+	}
+
+	private static List<String> legacyDirtyKeys() {
+		List<String> keys = new ArrayList<>(17);
+		keys.add("carts:dirty");
+		for (int bucket = 0; bucket < 16; bucket++) {
+			keys.add("carts:dirty:{" + bucket + "}");
+		}
+		return List.copyOf(keys);
+	}
+}
@@ -0,0 +1,34 @@
+package app.domain.cart.service;
+
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+// resources/redis/*.lua 장바구니 스크립트 (EVALSHA 로 실행, SHA 는 최초 1회 계산)
+final class CartRedisScripts {
+
+	static final RedisScript<Long> REPLACE = load("redis/cart_replace.lua", Long.class);
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> ADD_ITEM = load("redis/cart_add_item.lua", List.class);
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> SET_QUANTITY = load("redis/cart_set_quantity.lua", List.class);
+	static final RedisScript<Long> REMOVE_ITEM = load("redis/cart_remove_item.lua", Long.class);
+	static final RedisScript<Long> MIGRATE = load("redis/cart_migrate.lua", Long.class);
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> GET = load("redis/cart_get.lua", List.class);
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> EXPIRE_CLAIM = load("redis/cart_expire_claim.lua", List.class);
+	static final RedisScript<Long> EXPIRE_COMPLETE = load("redis/cart_expire_complete.lua", Long.class);
+
+	private CartRedisScripts() {
+	}
+
+	private static <T> RedisScript<T> load(String path, Class<T> resultType) {
+		DefaultRedisScript<T> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(path));
+		script.setResultType(resultType);
+		return script;
+	}
+}
@@ -1,6 +1,9 @@
 package app.domain.cart.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -9,8 +12,21 @@ import app.domain.cart.model.dto.RedisCartItem;
 public interface CartRedisService {
 	String saveCartToRedis(Long userId, List<RedisCartItem> cartItems);
 
+	// DB 에서 읽은 장바구니를 올린다. DB 와 같은 내용이므로 DB 동기화 대기(dirty)로 표시하지 않는다
+	String loadCartToRedis(Long userId, List<RedisCartItem> cartItems);
+
 	List<RedisCartItem> getCartFromRedis(Long userId);
 
+	// 주문 생성/사가처럼 최신 장바구니가 필요한 경로용. near-cache 를 거치지 않고 Redis 에서 바로 읽는다
+	default List<RedisCartItem> getLatestCartFromRedis(Long userId) {
+		return getCartFromRedis(userId);
+	}
+
+	// 한 번의 원자적 서버 측 연산으로 변경하고 변경 후 장바구니를 돌려준다
+	List<RedisCartItem> addCartItem(Long userId, UUID menuId, UUID storeId, int quantity);
+
+	List<RedisCartItem> updateCartItemQuantity(Long userId, UUID menuId, int quantity);
+
 	String removeCartItem(Long userId, UUID menuId);
 
 	String clearCartItems(Long userId);
@@ -19,5 +35,19 @@ public interface CartRedisService {
 
 	Set<String> getAllCartKeys();
 
+	// 세션이 만료된 장바구니를 DB 저장용으로 가져간다 (Redis 에는 남긴다). 다른 파드가 먼저 가져갔거나 다시 사용 중이면 empty
+	Optional<List<RedisCartItem>> claimExpiredCart(Long userId);
+
+	// 가져간 장바구니의 DB 반영이 커밋된 뒤 Redis 에서 지운다. 그 사이 다시 사용 중이면 남긴다
+	void completeExpiredCart(Long userId);
+
+	// DB 동기화 대기 장바구니를 최대 count 개 꺼낸다 (SPOP, 꺼낸 순간 집합에서 빠짐)
+	List<Long> popDirtyCarts(int count);
+
+	void markCartsDirty(Collection<Long> userIds);
+
+	// Redis 에 남아 있는 장바구니만 돌려준다 (만료된 키는 제외)
+	Map<Long, List<RedisCartItem>> getCartsFromRedis(Collection<Long> userIds);
+
 	Long extractUserIdFromKey(String key);
 }
@@ -1,21 +1,30 @@
 package app.domain.cart.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.status.CartErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,26 +33,64 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CartRedisServiceImpl implements CartRedisService {
 	private final RedisTemplate<String, String> redisTemplate;
-	private final ObjectMapper redisObjectMapper;
+	private final JsonCartItemCodec jsonCodec;
+	private final CompactCartItemCodec compactCodec;
+	private final CartKeyScanner keyScanner;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Timer> opTimers = new ConcurrentHashMap<>();
 	private static final Duration CART_TTL = Duration.ofMinutes(30);
 
+	// 장바구니 해시의 메타 필드 (값 = 매장 ID, 빈 장바구니는 ''). 상품 필드와 달리 JSON 이 아니다
+	static final String META_FIELD = "_meta";
+
+	// 슬롯별 dirty 집합을 한 번에 살펴보는 개수 (SCARD 파이프라인 한 번)
+	private static final int DIRTY_WINDOW = 1024;
+
+	// dirty 집합을 꺼낼 때 지난번에 멈춘 슬롯부터 이어 가며 고르게 비운다
+	private final AtomicInteger nextSlot = new AtomicInteger();
+
+	// 만료 시 DB 저장(CartExpiryListener)을 쓸 때만 세션 TTL 표시 키를 두고 데이터를 유예 시간만큼 더 남긴다
+	@Value("${cart.persist-on-expiry.enabled:false}")
+	private boolean persistOnExpiry;
+
+	// 세션 TTL 표시 키가 만료된 뒤 데이터를 남겨 두는 시간 (그 사이 만료 리스너가 DB 에 저장하고 지운다)
+	@Value("${cart.redis.expiry-grace:PT10M}")
+	private Duration expiryGrace;
+
+	// 만료 장바구니를 가져간 파드가 DB 반영을 끝내야 하는 시간. 넘기면 만료 리스너가 다시 가져간다
+	@Value("${cart.persist-on-expiry.claim-ttl:PT1M}")
+	private Duration claimTtl;
+
+	// 쓰기 형식 (json | compact). 읽기는 값 모양으로 판별하므로 전환 중 섞여 있어도 된다
+	@Value("${cart.redis.codec:json}")
+	private String codecFormat;
+
 	@Override
 	public String saveCartToRedis(Long userId, List<RedisCartItem> cartItems) {
-		try {
-			String key = "cart:" + userId;
-			redisTemplate.delete(key);
+		replaceCart("save", userId, cartItems, true);
+		return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
+	}
 
-			for (RedisCartItem item : cartItems) {
-				String itemJson = redisObjectMapper.writeValueAsString(item);
-				redisTemplate.opsForHash().put(key, item.getMenuId().toString(), itemJson);
-			}
+	@Override
+	public String loadCartToRedis(Long userId, List<RedisCartItem> cartItems) {
+		replaceCart("load", userId, cartItems, false);
+		return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
+	}
 
-			if (cartItems.isEmpty()) {
-				redisTemplate.opsForValue().set(key, "");
+	private void replaceCart(String op, Long userId, List<RedisCartItem> cartItems, boolean markDirty) {
+		try {
+			// DEL/HSET/PEXPIRE 를 스크립트 한 번(왕복 1회)으로 원자적으로 처리
+			List<String> args = new ArrayList<>(4 + cartItems.size() * 2);
+			args.add(sessionTtl());
+			args.add(dataTtl());
+			args.add(cartItems.isEmpty() ? "" : cartItems.get(0).getStoreId().toString());
+			args.add(markDirty ? "1" : "0");
+			for (RedisCartItem item : cartItems) {
+				args.add(item.getMenuId().toString());
+				args.add(writer().encode(item));
 			}
 
-			redisTemplate.expire(key, CART_TTL);
-			return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
+			timed(op, () -> redisTemplate.execute(CartRedisScripts.REPLACE, scriptKeys(userId), args.toArray()));
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
 		}
@@ -51,28 +98,96 @@ public class CartRedisServiceImpl implements CartRedisService {
 
 	@Override
 	public List<RedisCartItem> getCartFromRedis(Long userId) {
+		return timed("get", () -> loadCart(userId));
+	}
+
+	private List<RedisCartItem> loadCart(Long userId) {
 		try {
-			String key = "cart:" + userId;
+			// HGETALL + TTL 연장을 한 번에 (이전 형식 키는 스크립트가 변환)
+			List<?> values = redisTemplate.execute(CartRedisScripts.GET, scriptKeys(userId), sessionTtl(), dataTtl());
+			return parseItems(values);
+		} catch (GeneralException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+		}
+	}
 
-			String keyType = redisTemplate.type(key).code();
-			if ("string".equals(keyType)) {
-				return new ArrayList<>();
-			}
+	@Override
+	public List<RedisCartItem> addCartItem(Long userId, UUID menuId, UUID storeId, int quantity) {
+		try {
+			List<?> values = timed("add", () -> redisTemplate.execute(CartRedisScripts.ADD_ITEM,
+				scriptKeys(userId),
+				sessionTtl(), dataTtl(), menuId.toString(), storeId.toString(), String.valueOf(quantity),
+				writer().format()));
+			return parseItems(values);
+		} catch (GeneralException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
 
-			return redisTemplate.opsForHash().values(key).stream()
-				.map(value -> {
-					try {
-						return redisObjectMapper.readValue((String)value, RedisCartItem.class);
-					} catch (JsonProcessingException e) {
-						throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
-					}
-				})
-				.collect(Collectors.toList());
+	@Override
+	public List<RedisCartItem> updateCartItemQuantity(Long userId, UUID menuId, int quantity) {
+		try {
+			List<?> values = timed("update", () -> redisTemplate.execute(CartRedisScripts.SET_QUANTITY,
+				scriptKeys(userId),
+				sessionTtl(), dataTtl(), menuId.toString(), String.valueOf(quantity), writer().format()));
+			return parseItems(values);
 		} catch (GeneralException e) {
 			throw e;
 		} catch (Exception e) {
-			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
+
+	// 스크립트가 돌려준 HGETALL 결과(field, value, ...)에서 상품만 추린다
+	private List<RedisCartItem> parseItems(List<?> flat) {
+		if (flat == null) {
+			return new ArrayList<>();
+		}
+		Map<Object, Object> entries = new LinkedHashMap<>();
+		for (int i = 0; i + 1 < flat.size(); i += 2) {
+			entries.put(flat.get(i), flat.get(i + 1));
 		}
+		return parseEntries(entries);
+	}
+
+	private List<RedisCartItem> parseEntries(Map<?, ?> entries) {
+		String storeId = (String)entries.get(META_FIELD);
+		List<RedisCartItem> items = new ArrayList<>(entries.size());
+		entries.forEach((field, value) -> {
+			if (!META_FIELD.equals(field)) {
+				items.add(decode((String)field, storeId, (String)value));
+			}
+		});
+		return items;
+	}
+
+	// JSON 값은 '{' 로 시작, 그 외는 compact (수량)
+	private RedisCartItem decode(String menuId, String storeId, String value) {
+		CartItemCodec codec = value.startsWith("{") ? jsonCodec : compactCodec;
+		return codec.decode(menuId, storeId, value);
+	}
+
+	// (장바구니, dirty 집합[, 세션 TTL 표시]) - 모두 같은 슬롯이라 클러스터에서도 한 스크립트로 처리된다
+	private List<String> scriptKeys(Long userId) {
+		String key = CartRedisKeys.cart(userId);
+		String dirty = CartRedisKeys.dirty(userId);
+		return persistOnExpiry ? List.of(key, dirty, CartRedisKeys.ttlMarker(userId)) : List.of(key, dirty);
+	}
+
+	private String sessionTtl() {
+		return String.valueOf(CART_TTL.toMillis());
+	}
+
+	private String dataTtl() {
+		return String.valueOf((persistOnExpiry ? CART_TTL.plus(expiryGrace) : CART_TTL).toMillis());
+	}
+
+	private CartItemCodec writer() {
+		return compactCodec.format().equals(codecFormat) ? compactCodec : jsonCodec;
 	}
 
 	@Override
@@ -89,47 +204,184 @@ public class CartRedisServiceImpl implements CartRedisService {
 
 	@Override
 	public String removeCartItem(Long userId, UUID menuId) {
-		try {
-			String key = "cart:" + userId;
+		return timed("remove", () -> removeItem(userId, menuId));
+	}
 
-			if (!redisTemplate.hasKey(key)) {
-				return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
-			}
+	private String removeItem(Long userId, UUID menuId) {
+		try {
+			// HDEL + 빈 장바구니 표시 + PEXPIRE 를 한 번에
+			redisTemplate.execute(CartRedisScripts.REMOVE_ITEM, scriptKeys(userId),
+				sessionTtl(), dataTtl(), menuId.toString());
+			return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
 
-			String keyType = redisTemplate.type(key).code();
-			if ("string".equals(keyType)) {
-				redisTemplate.expire(key, CART_TTL);
-				return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
-			}
+	@Override
+	public boolean existsCartInRedis(Long userId) {
+		try {
+			String key = CartRedisKeys.cart(userId);
+			return timed("exists", () -> redisTemplate.hasKey(key));
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+		}
+	}
 
-			Long hashSize = redisTemplate.opsForHash().size(key);
-			redisTemplate.opsForHash().delete(key, menuId.toString());
+	@Override
+	public Set<String> getAllCartKeys() {
+		try {
+			// KEYS 대신 SCAN 커서로 나눠서 순회 (Redis 를 막지 않도록, 클러스터는 노드별)
+			return timed("keys", () -> {
+				Set<String> keys = new HashSet<>();
+				keyScanner.scan(1000, keys::add);
+				return keys;
+			});
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+		}
+	}
 
-			if (hashSize == 1) {
-				redisTemplate.opsForValue().set(key, "");
+	@Override
+	public Optional<List<RedisCartItem>> claimExpiredCart(Long userId) {
+		try {
+			// 만료 리스너에서만 호출되므로 세션 TTL 표시 키를 항상 넘긴다. 재시도 때까지 장바구니가 남도록 TTL 하한을 둔다
+			List<?> values = timed("expire-claim", () -> redisTemplate.execute(CartRedisScripts.EXPIRE_CLAIM,
+				expiryKeys(userId),
+				String.valueOf(claimTtl.toMillis()), String.valueOf(claimTtl.plus(expiryGrace).toMillis())));
+			// 빈 장바구니도 _meta 필드가 있으므로 빈 결과 = 다른 파드가 가져갔거나 다시 사용 중
+			if (values == null || values.isEmpty()) {
+				return Optional.empty();
 			}
+			return Optional.of(parseItems(values));
+		} catch (GeneralException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
+		}
+	}
 
-			redisTemplate.expire(key, CART_TTL);
-			return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
+	@Override
+	public void completeExpiredCart(Long userId) {
+		try {
+			timed("expire-complete", () -> redisTemplate.execute(CartRedisScripts.EXPIRE_COMPLETE, expiryKeys(userId)));
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
 		}
 	}
 
+	// (장바구니, dirty 집합, 세션 TTL 표시, claim) - 모두 같은 슬롯
+	private List<String> expiryKeys(Long userId) {
+		return List.of(CartRedisKeys.cart(userId), CartRedisKeys.dirty(userId), CartRedisKeys.ttlMarker(userId),
+			CartRedisKeys.claim(userId));
+	}
+
 	@Override
-	public boolean existsCartInRedis(Long userId) {
+	public List<Long> popDirtyCarts(int count) {
 		try {
-			String key = "cart:" + userId;
-			return redisTemplate.hasKey(key);
+			List<String> keys = timed("dirty-pop", () -> popDirtyKeys(count));
+			List<Long> userIds = new ArrayList<>(keys.size());
+			for (String key : keys) {
+				userIds.add(extractUserIdFromKey(key));
+			}
+			return userIds;
+		} catch (GeneralException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
 		}
 	}
 
+	// 이전 형식 집합에 남은 항목을 먼저 비우고, 슬롯을 DIRTY_WINDOW 개씩 돌며 count 개가 찰 때까지 SPOP
+	private List<String> popDirtyKeys(int count) {
+		List<String> keys = new ArrayList<>();
+		popNonEmpty(CartRedisKeys.LEGACY_DIRTY_KEYS, count, keys);
+		int start = nextSlot.get();
+		for (int offset = 0; offset < CartRedisKeys.SLOTS && keys.size() < count; offset += DIRTY_WINDOW) {
+			int from = (start + offset) % CartRedisKeys.SLOTS;
+			List<String> dirtyKeys = new ArrayList<>(DIRTY_WINDOW);
+			for (int i = 0; i < DIRTY_WINDOW; i++) {
+				dirtyKeys.add(CartRedisKeys.dirtySlot((from + i) % CartRedisKeys.SLOTS));
+			}
+			int stoppedAt = popNonEmpty(dirtyKeys, count, keys);
+			if (stoppedAt >= 0) {
+				// 멈춘 슬롯에 항목이 남아 있을 수 있으므로 다음 호출은 그 슬롯부터
+				nextSlot.set((from + stoppedAt) % CartRedisKeys.SLOTS);
+			}
+		}
+		return keys;
+	}
+
+	// SCARD 를 파이프라인으로 묶어(왕복 1회) 비어 있지 않은 집합만 SPOP. count 가 찬 위치를 돌려준다 (못 채우면 -1)
+	private int popNonEmpty(List<String> dirtyKeys, int count, List<String> out) {
+		if (out.size() >= count) {
+			return -1;
+		}
+		List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (String dirtyKey : dirtyKeys) {
+				connection.setCommands().sCard(dirtyKey.getBytes(StandardCharsets.UTF_8));
+			}
+			return null;
+		});
+		for (int i = 0; i < dirtyKeys.size(); i++) {
+			if (!(sizes.get(i) instanceof Long size) || size == 0) {
+				continue;
+			}
+			List<String> popped = redisTemplate.opsForSet().pop(dirtyKeys.get(i), count - out.size());
+			if (popped != null) {
+				out.addAll(popped);
+			}
+			if (out.size() >= count) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	@Override
-	public Set<String> getAllCartKeys() {
+	public void markCartsDirty(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
 		try {
-			return redisTemplate.keys("cart:*");
+			// 슬롯별 dirty 집합에 나눠 SADD
+			Map<String, List<String>> bySlot = new LinkedHashMap<>();
+			for (Long userId : userIds) {
+				bySlot.computeIfAbsent(CartRedisKeys.dirty(userId), k -> new ArrayList<>()).add(CartRedisKeys.cart(userId));
+			}
+			timed("dirty-add", () -> {
+				bySlot.forEach((dirtyKey, keys) -> redisTemplate.opsForSet().add(dirtyKey, keys.toArray(String[]::new)));
+				return null;
+			});
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
+
+	@Override
+	public Map<Long, List<RedisCartItem>> getCartsFromRedis(Collection<Long> userIds) {
+		try {
+			List<Long> ids = new ArrayList<>(userIds);
+			// HGETALL 을 파이프라인으로 묶어 왕복 1회
+			List<Object> results = timed("get-multi", () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (Long id : ids) {
+					connection.hashCommands().hGetAll(CartRedisKeys.cart(id).getBytes(StandardCharsets.UTF_8));
+				}
+				return null;
+			}));
+
+			Map<Long, List<RedisCartItem>> carts = new LinkedHashMap<>();
+			for (int i = 0; i < ids.size(); i++) {
+				Map<?, ?> entries = (Map<?, ?>)results.get(i);
+				// 키가 없으면(만료) 건너뛴다 - 빈 장바구니는 _meta 필드가 남아 있다
+				if (entries == null || entries.isEmpty()) {
+					continue;
+				}
+				carts.put(ids.get(i), parseEntries(entries));
+			}
+			return carts;
+		} catch (GeneralException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
 		}
@@ -138,10 +390,19 @@ public class CartRedisServiceImpl implements CartRedisService {
 	@Override
 	public Long extractUserIdFromKey(String key) {
 		try {
-			return Long.parseLong(key.substring(5));
+			return CartRedisKeys.userId(key);
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.INVALID_KEY_EXTRACT_FAILED);
 		}
 
 	}
+
+	// Redis 연산별 지연 시간 (cart.redis.op{op=...})
+	private <T> T timed(String op, Supplier<T> action) {
+		Timer timer = opTimers.computeIfAbsent(op, o -> Timer.builder("cart.redis.op")
+			.tag("op", o)
+			.publishPercentileHistogram()
+			.register(meterRegistry));
+		return timer.record(action);
+	}
 }
@@ -1,10 +1,8 @@
 package app.domain.cart.service;
 
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,43 +26,25 @@ public class CartService {
 	private final CartRepository cartRepository;
 	private final CartItemRepository cartItemRepository;
 	private final TokenPrincipalParser tokenPrincipalParser;
+	private final CartLoadCoordinator cartLoadCoordinator;
 
 	public String addCartItem(Authentication authentication,AddCartItemRequest request) {
 		String userIdStr = tokenPrincipalParser.getUserId(authentication);
 		Long userId = Long.parseLong(userIdStr);
-		List<RedisCartItem> items = getCartFromCache(authentication);
+		ensureCartLoaded(userId);
 
-		if (!items.isEmpty() && !items.get(0).getStoreId().equals(request.getStoreId())) {
-			items.clear();
-		}
-
-		boolean isExist = items.stream().anyMatch(i -> i.getMenuId().equals(request.getMenuId()));
-		if (isExist) {
-			items.stream()
-				.filter(item -> item.getMenuId().equals(request.getMenuId()))
-				.findFirst()
-				.ifPresent(item -> item.setQuantity(item.getQuantity() + request.getQuantity()));
-		} else {
-			items.add(RedisCartItem.builder()
-				.menuId(request.getMenuId())
-				.storeId(request.getStoreId())
-				.quantity(request.getQuantity())
-				.build());
-		}
-
-		return cartRedisService.saveCartToRedis(userId, items);
+		// 매장 변경 시 초기화 + 수량 누적을 Redis 에서 한 번에 처리
+		cartRedisService.addCartItem(userId, request.getMenuId(), request.getStoreId(), request.getQuantity());
+		return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
 	}
 
 	public String updateCartItem(Authentication authentication,UUID menuId, int quantity) {
 		String userIdStr = tokenPrincipalParser.getUserId(authentication);
 		Long userId = Long.parseLong(userIdStr);
-		List<RedisCartItem> items = getCartFromCache(authentication);
+		ensureCartLoaded(userId);
 
-		items.stream()
-			.filter(item -> item.getMenuId().equals(menuId))
-			.findFirst()
-			.ifPresent(item -> item.setQuantity(quantity));
-		return cartRedisService.saveCartToRedis(userId, items);
+		cartRedisService.updateCartItemQuantity(userId, menuId, quantity);
+		return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
 	}
 
 	public String removeCartItem(Authentication authentication,UUID menuId) {
@@ -76,10 +56,23 @@ public class CartService {
 	public List<RedisCartItem> getCartFromCache(Authentication authentication) {
 		String userIdStr = tokenPrincipalParser.getUserId(authentication);
 		Long userId = Long.parseLong(userIdStr);
+		ensureCartLoaded(userId);
+		return cartRedisService.getCartFromRedis(userId);
+	}
+
+	// 주문 생성용: near-cache 를 거치지 않은 최신 장바구니
+	public List<RedisCartItem> getCartForOrder(Authentication authentication) {
+		String userIdStr = tokenPrincipalParser.getUserId(authentication);
+		Long userId = Long.parseLong(userIdStr);
+		ensureCartLoaded(userId);
+		return cartRedisService.getLatestCartFromRedis(userId);
+	}
+
+	public void ensureCartLoaded(Long userId) {
 		if (!cartRedisService.existsCartInRedis(userId)) {
-			loadDbToRedis(userId);
+			// 동시 미스는 한 번의 DB 로드로 합친다
+			cartLoadCoordinator.load(userId, () -> loadDbToRedis(userId));
 		}
-		return cartRedisService.getCartFromRedis(userId);
 	}
 
 	public String clearCartItems(Authentication authentication) {
@@ -101,13 +94,13 @@ public class CartService {
 				.quantity(item.getQuantity())
 				.build())
 			.toList();
-		cartRedisService.saveCartToRedis(userId, redisItems);
+		cartRedisService.loadCartToRedis(userId, redisItems);
 		return "사용자 " +userId + "의 장바구니가 DB에서 Redis로 성공적으로 로드되었습니다.";
 	}
 
 	@Transactional
 	public String syncRedisToDb(Long userId) {
-		List<RedisCartItem> redisItems = cartRedisService.getCartFromRedis(userId);
+		List<RedisCartItem> redisItems = cartRedisService.getLatestCartFromRedis(userId);
 
 		Cart cart = cartRepository.findByUserId(userId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.CART_NOT_FOUND));
@@ -130,16 +123,12 @@ public class CartService {
 		return "사용자 " + userId + "의 장바구니가 Redis에서 DB로 성공적으로 동기화되었습니다.";
 	}
 
-	@Scheduled(initialDelay = 900000, fixedRate = 900000)
-	@Transactional
+	// 전체 재동기화: 모든 장바구니를 dirty 로 표시만 하고 실제 반영은 CartSyncScheduler 가 chunk 단위로 처리
 	public String syncAllCartsToDb() {
-		Set<String> cartKeys = cartRedisService.getAllCartKeys();
-		int successCount = 0;
-		for (String key : cartKeys) {
-			Long userId = cartRedisService.extractUserIdFromKey(key);
-			syncRedisToDb(userId);
-			successCount++;
-		}
-		return "전체 장바구니 동기화 완료 - 성공: " + successCount + "/" + cartKeys.size();
+		List<Long> userIds = cartRedisService.getAllCartKeys().stream()
+			.map(cartRedisService::extractUserIdFromKey)
+			.toList();
+		cartRedisService.markCartsDirty(userIds);
+		return "전체 장바구니 동기화 예약 - 대상: " + userIds.size();
 	}
 }
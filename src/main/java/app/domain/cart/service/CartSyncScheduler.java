@@ -0,0 +1,135 @@
+package app.domain.cart.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 장바구니 write-behind.
+ * 변경된 장바구니만 cart-dirty:{<슬롯 태그>} 집합에서 SPOP 으로 꺼내(여러 파드가 돌아도 같은 장바구니를 중복 처리하지 않음)
+ * chunk 단위 트랜잭션으로 병렬 반영한다. 실패한 chunk 는 다시 dirty 로 돌려 다음 주기에 재시도.
+ * 세션 만료 시 저장(CartExpiryListener)만 쓰려면 cart.sync.enabled=false.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "cart.sync.enabled", havingValue = "true", matchIfMissing = true)
+public class CartSyncScheduler {
+	private final CartRedisService cartRedisService;
+	private final CartSyncWorker worker;
+	private final SimpleAsyncTaskExecutor executor;
+	private final Counter syncedCounter;
+	private final Counter failedCounter;
+	private final Timer runTimer;
+	private final AtomicBoolean seeded = new AtomicBoolean();
+
+	@Value("${cart.sync.chunk-size:200}")
+	private int chunkSize;
+
+	// 한 번 실행에서 처리할 최대 장바구니 수 (DB 부하 상한)
+	@Value("${cart.sync.max-per-run:20000}")
+	private int maxPerRun;
+
+	// 기동 후 첫 실행에서 기존 cart:* 키를 SCAN 해 dirty 로 등록 (이전 버전에서 쓰인 장바구니 보정)
+	@Value("${cart.sync.seed-on-startup:true}")
+	private boolean seedOnStartup;
+
+	public CartSyncScheduler(
+		CartRedisService cartRedisService,
+		CartSyncWorker worker,
+		MeterRegistry meterRegistry,
+		@Value("${cart.sync.parallelism:4}") int parallelism
+	) {
+		this.cartRedisService = cartRedisService;
+		this.worker = worker;
+		this.executor = new SimpleAsyncTaskExecutor("cart-sync-");
+		this.executor.setConcurrencyLimit(parallelism);
+		this.syncedCounter = Counter.builder("cart.sync.carts").tag("result", "synced").register(meterRegistry);
+		this.failedCounter = Counter.builder("cart.sync.carts").tag("result", "failed").register(meterRegistry);
+		this.runTimer = Timer.builder("cart.sync.run").register(meterRegistry);
+	}
+
+	@Scheduled(initialDelayString = "${cart.sync.initial-delay:30s}", fixedDelayString = "${cart.sync.interval:60s}")
+	public void syncScheduler() {
+		if (seedOnStartup && seeded.compareAndSet(false, true)) {
+			seed();
+		}
+		runTimer.record(this::drain);
+	}
+
+	private void drain() {
+		long start = System.currentTimeMillis();
+		AtomicInteger synced = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		int claimed = 0;
+		while (claimed < maxPerRun) {
+			List<Long> userIds;
+			try {
+				userIds = cartRedisService.popDirtyCarts(Math.min(chunkSize, maxPerRun - claimed));
+			} catch (Exception e) {
+				log.warn("[Cart] dirty pop failed: {}", e.toString());
+				break;
+			}
+			if (userIds.isEmpty()) {
+				break;
+			}
+			claimed += userIds.size();
+			futures.add(CompletableFuture.runAsync(() -> syncChunk(userIds, synced, failed), executor));
+			if (userIds.size() < chunkSize) {
+				break;
+			}
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		syncedCounter.increment(synced.get());
+		failedCounter.increment(failed.get());
+		if (claimed > 0) {
+			log.info("[Cart] write-behind: synced={} failed={} took={}ms",
+				synced.get(), failed.get(), System.currentTimeMillis() - start);
+		}
+	}
+
+	private void syncChunk(List<Long> userIds, AtomicInteger synced, AtomicInteger failed) {
+		try {
+			Map<Long, List<RedisCartItem>> carts = cartRedisService.getCartsFromRedis(userIds);
+			synced.addAndGet(worker.syncChunk(carts));
+		} catch (Exception e) {
+			failed.addAndGet(userIds.size());
+			log.warn("[Cart] chunk sync failed size={} err={}", userIds.size(), e.toString());
+			try {
+				cartRedisService.markCartsDirty(userIds);
+			} catch (Exception ex) {
+				log.error("[Cart] failed to re-mark {} carts dirty: {}", userIds.size(), ex.toString());
+			}
+		}
+	}
+
+	private void seed() {
+		try {
+			List<Long> userIds = cartRedisService.getAllCartKeys().stream()
+				.map(cartRedisService::extractUserIdFromKey)
+				.toList();
+			cartRedisService.markCartsDirty(userIds);
+			if (!userIds.isEmpty()) {
+				log.info("[Cart] seeded {} carts for write-behind", userIds.size());
+			}
+		} catch (Exception e) {
+			log.warn("[Cart] dirty seed failed: {}", e.toString());
+		}
+	}
+}
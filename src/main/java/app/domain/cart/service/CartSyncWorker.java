@@ -0,0 +1,62 @@
+package app.domain.cart.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.model.entity.Cart;
+import app.domain.cart.model.entity.CartItem;
+import app.domain.cart.model.repository.CartItemRepository;
+import app.domain.cart.model.repository.CartRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CartSyncWorker {
+	private final CartRepository cartRepository;
+	private final CartItemRepository cartItemRepository;
+
+	// 장바구니 묶음 하나를 한 트랜잭션으로 반영 (조회 1 + 벌크 삭제 1 + 배치 insert)
+	@Transactional
+	public int syncChunk(Map<Long, List<RedisCartItem>> carts) {
+		if (carts.isEmpty()) {
+			return 0;
+		}
+		Map<Long, Cart> byUser = new HashMap<>();
+		for (Cart cart : cartRepository.findByUserIdIn(carts.keySet())) {
+			byUser.put(cart.getUserId(), cart);
+		}
+
+		List<Cart> created = new ArrayList<>();
+		for (Long userId : carts.keySet()) {
+			if (!byUser.containsKey(userId)) {
+				created.add(Cart.builder().userId(userId).build());
+			}
+		}
+		for (Cart cart : cartRepository.saveAll(created)) {
+			byUser.put(cart.getUserId(), cart);
+		}
+
+		cartItemRepository.deleteAllByCartIds(byUser.values().stream().map(Cart::getCartId).toList());
+
+		List<CartItem> items = new ArrayList<>();
+		carts.forEach((userId, redisItems) -> {
+			Cart cart = byUser.get(userId);
+			for (RedisCartItem item : redisItems) {
+				items.add(CartItem.builder()
+					.cart(cart)
+					.menuId(item.getMenuId())
+					.storeId(item.getStoreId())
+					.quantity(item.getQuantity())
+					.build());
+			}
+		});
+		cartItemRepository.saveAll(items);
+		return carts.size();
+	}
+}
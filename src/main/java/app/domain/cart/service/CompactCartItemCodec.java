@@ -0,0 +1,33 @@
+package app.domain.cart.service;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.status.CartErrorStatus;
+
+// 값 = 수량(10진 정수)만. menuId 는 필드 이름, storeId 는 _meta 에서 가져온다
+@Component
+public class CompactCartItemCodec implements CartItemCodec {
+
+	@Override
+	public String format() {
+		return "compact";
+	}
+
+	@Override
+	public String encode(RedisCartItem item) {
+		return Integer.toString(item.getQuantity());
+	}
+
+	@Override
+	public RedisCartItem decode(String menuId, String storeId, String value) {
+		try {
+			return new RedisCartItem(UUID.fromString(menuId), UUID.fromString(storeId), Integer.parseInt(value));
+		} catch (RuntimeException e) {
+			throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package app.domain.cart.service;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.status.CartErrorStatus;
+import lombok.RequiredArgsConstructor;
+
+// 기존 형식: 상품마다 {"menuId","storeId","quantity"} JSON
+@Component
+@RequiredArgsConstructor
+public class JsonCartItemCodec implements CartItemCodec {
+
+	private final ObjectMapper redisObjectMapper;
+
+	@Override
+	public String format() {
+		return "json";
+	}
+
+	@Override
+	public String encode(RedisCartItem item) {
+		try {
+			return redisObjectMapper.writeValueAsString(item);
+		} catch (JsonProcessingException e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
+
+	@Override
+	public RedisCartItem decode(String menuId, String storeId, String value) {
+		try {
+			return redisObjectMapper.readValue(value, RedisCartItem.class);
+		} catch (JsonProcessingException e) {
+			throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+		}
+	}
+}
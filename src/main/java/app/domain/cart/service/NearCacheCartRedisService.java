@@ -0,0 +1,186 @@
+package app.domain.cart.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.global.cache.LocalInvalidationChannel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 파드 로컬 장바구니 near-cache (Caffeine). 장바구니 화면 조회(getCartFromRedis)만 로컬에서 끝나고 변경은 Redis 로 그대로 보낸다.
+ * 주문 생성/사가 경로는 getLatestCartFromRedis 로 항상 Redis 를 읽는다.
+ * 변경 시 carts:invalidate 채널로 userId 를 발행해 다른 파드의 로컬 사본을 지운다.
+ * 구독이 끊긴 사이 놓친 무효화는 expire-after-write 로 상한을 둔다.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "cart.near-cache.enabled", havingValue = "true")
+public class NearCacheCartRedisService implements CartRedisService {
+
+	static final String INVALIDATE_CHANNEL = "carts:invalidate";
+
+	private final CartRedisServiceImpl delegate;
+	private final Cache<Long, List<RedisCartItem>> local;
+	private final LocalInvalidationChannel<Long> invalidation;
+
+	public NearCacheCartRedisService(
+		CartRedisServiceImpl delegate,
+		RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${cart.near-cache.max-size:50000}") long maxSize,
+		@Value("${cart.near-cache.ttl:PT30S}") Duration ttl
+	) {
+		this.delegate = delegate;
+		this.local = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, local, "cart.near");
+		this.invalidation = new LocalInvalidationChannel<>(INVALIDATE_CHANNEL, redisTemplate, listenerContainer,
+			Long::parseLong, local::invalidate);
+	}
+
+	@Override
+	public List<RedisCartItem> getCartFromRedis(Long userId) {
+		List<RedisCartItem> cached = local.getIfPresent(userId);
+		if (cached != null) {
+			return cached;
+		}
+		long gen = invalidation.generation();
+		List<RedisCartItem> items = List.copyOf(delegate.getCartFromRedis(userId));
+		if (invalidation.unchangedSince(gen)) {
+			local.put(userId, items);
+		}
+		return items;
+	}
+
+	@Override
+	public List<RedisCartItem> getLatestCartFromRedis(Long userId) {
+		return delegate.getCartFromRedis(userId);
+	}
+
+	@Override
+	public boolean existsCartInRedis(Long userId) {
+		return local.getIfPresent(userId) != null || delegate.existsCartInRedis(userId);
+	}
+
+	@Override
+	public String saveCartToRedis(Long userId, List<RedisCartItem> cartItems) {
+		try {
+			return delegate.saveCartToRedis(userId, cartItems);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public String loadCartToRedis(Long userId, List<RedisCartItem> cartItems) {
+		try {
+			return delegate.loadCartToRedis(userId, cartItems);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public List<RedisCartItem> addCartItem(Long userId, UUID menuId, UUID storeId, int quantity) {
+		try {
+			return delegate.addCartItem(userId, menuId, storeId, quantity);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public List<RedisCartItem> updateCartItemQuantity(Long userId, UUID menuId, int quantity) {
+		try {
+			return delegate.updateCartItemQuantity(userId, menuId, quantity);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public String removeCartItem(Long userId, UUID menuId) {
+		try {
+			return delegate.removeCartItem(userId, menuId);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public String clearCartItems(Long userId) {
+		try {
+			return delegate.clearCartItems(userId);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public Optional<List<RedisCartItem>> claimExpiredCart(Long userId) {
+		try {
+			return delegate.claimExpiredCart(userId);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public void completeExpiredCart(Long userId) {
+		try {
+			delegate.completeExpiredCart(userId);
+		} finally {
+			invalidate(userId);
+		}
+	}
+
+	@Override
+	public Set<String> getAllCartKeys() {
+		return delegate.getAllCartKeys();
+	}
+
+	@Override
+	public List<Long> popDirtyCarts(int count) {
+		return delegate.popDirtyCarts(count);
+	}
+
+	@Override
+	public void markCartsDirty(Collection<Long> userIds) {
+		delegate.markCartsDirty(userIds);
+	}
+
+	@Override
+	public Map<Long, List<RedisCartItem>> getCartsFromRedis(Collection<Long> userIds) {
+		return delegate.getCartsFromRedis(userIds);
+	}
+
+	@Override
+	public Long extractUserIdFromKey(String key) {
+		return delegate.extractUserIdFromKey(key);
+	}
+
+	private void invalidate(Long userId) {
+		invalidation.invalidate(userId);
+	}
+}
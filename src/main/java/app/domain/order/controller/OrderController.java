@@ -2,11 +2,13 @@ package app.domain.order.controller;
 
 import static org.springframework.data.domain.Sort.Direction.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,14 +17,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.request.UpdateOrderStatusRequest;
+import app.domain.order.model.dto.response.CursorPageResponse;
 import app.domain.order.model.dto.response.OrderDetailResponse;
 import app.domain.order.model.dto.response.OrderResponse;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
 import app.domain.order.service.OrderService;
 import app.domain.order.status.OrderSuccessStatus;
@@ -57,6 +62,18 @@ public class OrderController {
 	}
 
 
+	@PreAuthorize("hasAnyRole('CUSTOMER', 'OWNER')")
+	@Operation(summary = "주문 상태 이력 조회 API", description = "주문의 상태 변경 이력을 시간순으로 조회합니다. 기간은 [from, to) 이며 생략하면 전체입니다.")
+	@GetMapping("/{orderId}/history")
+	public ApiResponse<List<OrderStatusHistoryResponse>> getOrderStatusHistory(
+		@PathVariable UUID orderId,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+	) {
+		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_HISTORY_FETCHED,
+			orderService.getStatusHistory(orderId, from, to));
+	}
+
 	@Operation(
 		summary = "선택한 사용자 주문내역 조회",
 		description = "선택한 사용자의 주문 정보를 확인 합니다."
@@ -70,6 +87,21 @@ public class OrderController {
 		return ApiResponse.onSuccess(OrderSuccessStatus.MANAGER_GET_CUSTOMER_ORDER_OK,orderService.getCustomerOrderListById(userId, pageable));
 	}
 
+	@Operation(
+		summary = "선택한 사용자 주문내역 커서 조회",
+		description = "최신순으로 주문 정보를 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘깁니다."
+	)
+	@GetMapping("/{userId}/order/cursor")
+	@PreAuthorize("hasRole('OWNER')")
+	public ApiResponse<CursorPageResponse<OrderDetailResponse>> getCustomerOrderListByCursor(
+		@PathVariable("userId") Long userId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ApiResponse.onSuccess(OrderSuccessStatus.MANAGER_GET_CUSTOMER_ORDER_OK,
+			orderService.getCustomerOrderListByCursor(userId, cursor, size));
+	}
+
 
 	@PreAuthorize("hasRole('OWNER')")
 	@Operation(summary = "주문 상태 변경 API", description = "주문 ID로 주문 상태를 변경합니다.")
@@ -89,4 +121,16 @@ public class OrderController {
 	) {
 		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_FETCHED, orderService.getCustomerOrders(authentication));
 	}
-}
\ No newline at end of file
+
+	@PreAuthorize("hasRole('CUSTOMER')")
+	@Operation(summary = "고객 주문 내역 커서 조회 API", description = "자신의 주문 내역을 최신순으로 커서 기반 조회합니다.")
+	@GetMapping("/cursor")
+	public ApiResponse<CursorPageResponse<OrderResponse>> getCustomerOrdersByCursor(
+		Authentication authentication,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_FETCHED,
+			orderService.getCustomerOrdersByCursor(authentication, cursor, size));
+	}
+}
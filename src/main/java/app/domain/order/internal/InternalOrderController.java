@@ -1,32 +1,68 @@
 package app.domain.order.internal;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import app.commonUtil.apiPayload.ApiResponse;
+import app.domain.order.model.dto.response.CursorPageResponse;
 import app.domain.order.model.dto.response.OrderInfoResponse;
 import app.domain.order.model.dto.response.StoreOrderInfo;
 import app.domain.order.status.OrderSuccessStatus;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class InternalOrderController {
 
     private final InternalOrderService internalOrderService;
 
+    // 매장 주문 내보내기 전용 비동기 타임아웃 (다른 비동기 요청은 전역 기본값 그대로)
+    @Value("${order.export.timeout:PT10M}")
+    private Duration exportTimeout;
+
     @GetMapping("internal/order/store/{storeId}")
     public ApiResponse<List<StoreOrderInfo>> getOrdersByStoreId(@PathVariable UUID storeId) {
         List<StoreOrderInfo> storeOrderInfo = internalOrderService.getOrdersByStoreId(storeId);
         return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_STORE_INFO,storeOrderInfo);
     }
 
+    @GetMapping("internal/order/store/{storeId}/cursor")
+    public ApiResponse<CursorPageResponse<StoreOrderInfo>> getOrdersByStoreIdCursor(@PathVariable UUID storeId,
+        @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "100") int size) {
+        CursorPageResponse<StoreOrderInfo> page = internalOrderService.getOrdersByStoreIdCursor(storeId, cursor, size);
+        return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_STORE_INFO,page);
+    }
+
+    // 매장 주문 전체 내보내기 (NDJSON). 기간은 [from, to) 이며 생략하면 전체
+    // 응답 스트림에 직접 쓰고, 이 요청에만 order.export.timeout 을 비동기 타임아웃으로 건다
+    @GetMapping("internal/order/store/{storeId}/export")
+    public WebAsyncTask<Void> exportOrdersByStoreId(@PathVariable UUID storeId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        HttpServletResponse response) {
+        response.setContentType("application/x-ndjson");
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            long written = internalOrderService.exportOrdersByStoreId(storeId, from, to, response.getOutputStream());
+            log.info("[Order] exported {} orders of store {}", written, storeId);
+            return null;
+        });
+    }
+
     @GetMapping("internal/order/{orderId}/exists")
     public ApiResponse<Boolean> isOrderExists(@PathVariable UUID orderId) {
         Boolean exists = internalOrderService.isOrderExists(orderId);
@@ -1,19 +1,34 @@
 package app.domain.order.internal;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.order.model.dto.request.OrderCursor;
+import app.domain.order.model.dto.response.CursorPageResponse;
 import app.domain.order.model.dto.response.OrderInfoResponse;
 import app.domain.order.model.dto.response.StoreOrderInfo;
+import app.domain.order.model.entity.OrderStatusHistory;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusHistoryRepository;
 import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderDetailCache;
+import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderStatusRecorder;
 import app.domain.order.status.OrderErrorStatus;
 import lombok.RequiredArgsConstructor;
 
@@ -21,7 +36,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class InternalOrderService {
 
+    private static final LocalDateTime EXPORT_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime EXPORT_MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final int EXPORT_FLUSH_EVERY = 500;
+
     private final OrdersRepository ordersRepository;
+    private final ObjectMapper objectMapper;
+    private final OrderDetailCache orderDetailCache;
+    private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+    private final OrderStatusRecorder orderStatusRecorder;
 
 
     public List<StoreOrderInfo> getOrdersByStoreId(UUID storeId){
@@ -29,17 +52,53 @@ public class InternalOrderService {
         if(ordersList.size()==0)
             throw new GeneralException(OrderErrorStatus.ORDER_STORE_NOT_FOUND);
         return ordersList.stream()
-            .map(order -> new StoreOrderInfo(
-                order.getOrdersId(),
-                order.getStoreId(),
-                order.getUserId(),
-                order.getTotalPrice(),
-                String.valueOf(order.getOrderStatus()),
-                order.getCreatedAt()
-            ))
+            .map(this::toStoreOrderInfo)
             .toList();
 
     }
+
+    // 매장 주문 전체를 한 번에 읽지 않고 (created_at, orders_id) 키셋으로 나눠 읽는다
+    @Transactional(readOnly = true)
+    public CursorPageResponse<StoreOrderInfo> getOrdersByStoreIdCursor(UUID storeId, String cursor, int size) {
+        int limit = OrderService.clampPageSize(size);
+        List<Orders> rows = ordersRepository.findStorePage(storeId, OrderCursor.decode(cursor),
+            PageRequest.of(0, limit + 1));
+        return CursorPageResponse.of(rows, limit, page -> page.stream().map(this::toStoreOrderInfo).toList());
+    }
+
+    // 매장 주문을 NDJSON(한 줄에 StoreOrderInfo 하나)으로 흘려 보낸다. 힙에는 fetch size 만큼만 올라온다
+    // 스트림은 트랜잭션 안에서만 읽을 수 있으므로 응답 쓰기 전체가 이 메서드 안에서 끝나야 한다
+    @Transactional(readOnly = true)
+    public long exportOrdersByStoreId(UUID storeId, LocalDateTime from, LocalDateTime to, OutputStream out)
+        throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(StoreOrderInfo.class);
+        long written = 0;
+        try (Stream<StoreOrderInfo> rows = ordersRepository.streamStoreOrderInfo(storeId,
+            from == null ? EXPORT_MIN : from, to == null ? EXPORT_MAX : to)) {
+            Iterator<StoreOrderInfo> it = rows.iterator();
+            while (it.hasNext()) {
+                out.write(writer.writeValueAsBytes(it.next()));
+                out.write('\n');
+                if (++written % EXPORT_FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    private StoreOrderInfo toStoreOrderInfo(Orders order) {
+        return new StoreOrderInfo(
+            order.getOrdersId(),
+            order.getStoreId(),
+            order.getUserId(),
+            order.getTotalPrice(),
+            String.valueOf(order.getOrderStatus()),
+            order.getCreatedAt()
+        );
+    }
+
     public Boolean isOrderExists(UUID orderId) {
         boolean exists = ordersRepository.existsById(orderId);
         if (!exists) {
@@ -49,23 +108,27 @@ public class InternalOrderService {
     }
 
     public OrderInfoResponse getOrderInfo(UUID orderId) {
-        Orders order = ordersRepository.findById(orderId)
-            .orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+        OrderInfoResponse info = orderDetailCache.getInfo(orderId, () -> {
+            Orders order = ordersRepository.findById(orderId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+            return new OrderInfoResponse(
+                order.getOrdersId(),
+                order.getStoreId(),
+                order.getUserId(),
+                order.getTotalPrice(),
+                String.valueOf(order.getOrderStatus()),
+                order.getCreatedAt(),
+                order.getPaymentMethod().name(),
+                order.isRefundable()
+            );
+        });
 
-        if(!(order.getOrderStatus().equals(OrderStatus.CREATED) || order.getOrderStatus().equals(OrderStatus.ACCEPTED_READY))){
+        // 상태 검사는 캐시된 값에도 매번 적용 (상태가 바뀌면 캐시는 커밋 후 무효화된다)
+        String status = info.getOrderStatus();
+        if(!(OrderStatus.CREATED.name().equals(status) || OrderStatus.ACCEPTED_READY.name().equals(status))){
             throw new GeneralException(OrderErrorStatus.INVALID_ORDER_REQUEST);
         }
-
-        return new OrderInfoResponse(
-            order.getOrdersId(),
-            order.getStoreId(),
-            order.getUserId(),
-            order.getTotalPrice(),
-            String.valueOf(order.getOrderStatus()),
-            order.getCreatedAt(),
-            order.getPaymentMethod().name(),
-            order.isRefundable()
-        );
+        return info;
     }
 
 
@@ -75,16 +138,22 @@ public class InternalOrderService {
             .orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
         
         OrderStatus status = OrderStatus.valueOf(orderStatus);
-        order.updateOrderStatus(status);
+        orderStatusRecorder.change(order, status);
         return "주문 상태를 수정했습니다.";
     }
 
     @Transactional
     public String addHistory(UUID orderId, String orderState) {
-        Orders order = ordersRepository.findById(orderId)
-            .orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
-        
-        order.addHistory(orderState, LocalDateTime.now());
+        if (!ordersRepository.existsById(orderId)) {
+            throw new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
+        }
+        String state = orderState == null ? "" : orderState.strip();
+        if (state.isEmpty() || state.length() > 50) {
+            throw new GeneralException(OrderErrorStatus.INVALID_ORDER_REQUEST);
+        }
+
+        // 주문 행은 건드리지 않고 이력 한 행만 INSERT
+        orderStatusHistoryRepository.save(OrderStatusHistory.of(orderId, state));
         return "주문 history를 추가했습니다";
     }
 }
\ No newline at end of file
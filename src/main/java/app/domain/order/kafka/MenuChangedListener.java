@@ -0,0 +1,37 @@
+package app.domain.order.kafka;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import app.domain.order.kafka.event.MenuChangedEvent;
+import app.domain.order.kafka.event.SagaEventCodec;
+import app.domain.order.service.MenuInfoCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 매장 서비스의 메뉴 변경 이벤트로 메뉴 캐시를 무효화한다. 모든 파드가 받아야 하므로 파드(HOSTNAME)마다 그룹을 따로 쓴다.
+// 같은 파드가 다시 떠도 그룹을 재사용하므로 기동마다 브로커에 새 그룹이 쌓이지 않는다.
+// 토픽은 매장 서비스 소유라 매장 서비스가 menu.changed 를 발행하기 전까지는 끈다 (menu.cache.invalidation.enabled=true 로 켠다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "menu.cache.invalidation.enabled", havingValue = "true")
+public class MenuChangedListener {
+
+	private final MenuInfoCache menuInfoCache;
+	private final SagaEventCodec codec;
+
+	@KafkaListener(topics = "${topics.menu.changed:menu.changed}", id = "menu-changed",
+		groupId = "${spring.application.name}-menu-cache-${HOSTNAME:local}",
+		properties = "auto.offset.reset=latest")
+	public void menuChanged(String message) {
+		MenuChangedEvent evt = codec.read(message, MenuChangedEvent.class);
+		if (evt.menuIds() == null || evt.menuIds().isEmpty()) {
+			menuInfoCache.invalidateAll();
+			return;
+		}
+		menuInfoCache.invalidate(evt.menuIds());
+		log.debug("[Menu] cache invalidated menus={}", evt.menuIds().size());
+	}
+}
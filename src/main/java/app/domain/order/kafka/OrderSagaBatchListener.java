@@ -0,0 +1,229 @@
+package app.domain.order.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OrderValidatedListener 의 배치 버전.
+ * poll 한 번의 레코드에 대해 주문을 findAllById 1회로 읽고, 상태 전이를 메모리에서 적용한 뒤
+ * 한 트랜잭션에서 JDBC 배치로 flush 한다. 레코드별 변경은 SagaEffects 에 모았다가 그 레코드가 성공했을 때만 반영하므로,
+ * 실패한 레코드는 아무것도 바꾸지 않은 채 커밋 후 .DLT 로 보내진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.listener.batch.enabled", havingValue = "true")
+public class OrderSagaBatchListener {
+
+	private static final String CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+	private static final String RETRY_HEADER = "x-retry-attempt";
+
+	private final OrdersRepository ordersRepo;
+	private final OrderItemRepository itemRepo;
+	private final OrderSagaHandler sagaHandler;
+	private final DeadLetterPublishingRecoverer recoverer;
+	private final ProcessedMessageStore processedMessageStore;
+	private final TransactionTemplate transactionTemplate;
+
+	public OrderSagaBatchListener(
+		OrdersRepository ordersRepo,
+		OrderItemRepository itemRepo,
+		OrderSagaHandler sagaHandler,
+		DeadLetterPublishingRecoverer recoverer,
+		ProcessedMessageStore processedMessageStore,
+		PlatformTransactionManager transactionManager
+	) {
+		this.ordersRepo = ordersRepo;
+		this.itemRepo = itemRepo;
+		this.sagaHandler = sagaHandler;
+		this.recoverer = recoverer;
+		this.processedMessageStore = processedMessageStore;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@KafkaListener(topics = "${topics.order.validated}", id = "order-valid", groupId = "order-valid",
+		containerFactory = CONTAINER_FACTORY, concurrency = "${kafka.listener.concurrency.order-valid:${kafka.listener.concurrency.default:1}}")
+	public void orderValidated(List<ConsumerRecord<String, String>> records) {
+		processBatch(records, rec -> true, (order, rec, items, fx) ->
+			items.addAll(sagaHandler.onValidated(order, eventType(rec), rec.value(), fx)));
+	}
+
+	@KafkaListener(topics = "${topics.payment.result}", id = "payment-result", groupId = "payment-result",
+		containerFactory = CONTAINER_FACTORY, concurrency = "${kafka.listener.concurrency.payment-result:${kafka.listener.concurrency.default:1}}")
+	public void paymentResult(List<ConsumerRecord<String, String>> records) {
+		// 결제 성공은 주문을 읽지 않는다
+		processBatch(records, rec -> !isSuccess(rec), (order, rec, items, fx) -> {
+			if (isSuccess(rec)) {
+				sagaHandler.onPaymentSucceeded(orderId(rec), rec.value(), fx);
+			} else {
+				sagaHandler.onPaymentFailed(order, fx);
+			}
+		});
+	}
+
+	@KafkaListener(topics = "${topics.stock.result}", id = "stock-result", groupId = "stock-result",
+		containerFactory = CONTAINER_FACTORY, concurrency = "${kafka.listener.concurrency.stock-result:${kafka.listener.concurrency.default:1}}")
+	public void stockResult(List<ConsumerRecord<String, String>> records) {
+		processBatch(records, rec -> true, (order, rec, items, fx) ->
+			sagaHandler.onStockResult(order, eventType(rec), rec.value(), fx));
+	}
+
+	@KafkaListener(topics = "${topics.order.approve}", id = "order-approve-result", groupId = "order-approve-result",
+		containerFactory = CONTAINER_FACTORY, concurrency = "${kafka.listener.concurrency.order-approve-result:${kafka.listener.concurrency.default:1}}")
+	public void orderApproveResult(List<ConsumerRecord<String, String>> records) {
+		processBatch(records, rec -> true, (order, rec, items, fx) ->
+			sagaHandler.onApproveResult(order, eventType(rec), fx));
+	}
+
+	private void processBatch(
+		List<ConsumerRecord<String, String>> records,
+		Predicate<ConsumerRecord<String, String>> needsOrder,
+		SagaStep step
+	) {
+		List<Failure> failures = new ArrayList<>();
+
+		// 이미 처리한 레코드(재전달/DLT 재처리 중복)는 주문 조회 전에 제외. Redis 확인은 배치당 한 번
+		List<String> keys = new ArrayList<>(records.size());
+		for (ConsumerRecord<String, String> rec : records) {
+			keys.add(dedupKey(rec));
+		}
+		Set<String> done = processedMessageStore.processedOf(keys.stream().filter(Objects::nonNull).distinct().toList());
+		List<ConsumerRecord<String, String>> pending = new ArrayList<>(records.size());
+		Set<String> seen = new HashSet<>();
+		for (int i = 0; i < records.size(); i++) {
+			String key = keys.get(i);
+			if (key != null && (done.contains(key) || !seen.add(key))) {
+				continue;
+			}
+			pending.add(records.get(i));
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Set<UUID> ids = new HashSet<>();
+			for (ConsumerRecord<String, String> rec : pending) {
+				try {
+					if (needsOrder.test(rec)) {
+						ids.add(orderId(rec));
+					}
+				} catch (RuntimeException e) {
+					// 헤더 누락 등은 아래 루프에서 다시 걸러진다
+				}
+			}
+			Map<UUID, Orders> orders = ordersRepo.findAllById(ids).stream()
+				.collect(Collectors.toMap(Orders::getOrdersId, Function.identity()));
+
+			List<OrderItem> items = new ArrayList<>();
+			List<String> processed = new ArrayList<>(pending.size());
+			for (ConsumerRecord<String, String> rec : pending) {
+				try {
+					Orders order = null;
+					if (needsOrder.test(rec)) {
+						order = orders.get(orderId(rec));
+						if (order == null) {
+							throw new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
+						}
+					}
+					// 단계가 끝까지 성공했을 때만 변경을 반영한다 (실패 레코드는 아무것도 바꾸지 않음)
+					List<OrderItem> recordItems = new ArrayList<>();
+					SagaEffects fx = new SagaEffects();
+					step.apply(order, rec, recordItems, fx);
+					sagaHandler.apply(fx);
+					items.addAll(recordItems);
+					String key = dedupKey(rec);
+					if (key != null) {
+						processed.add(key);
+					}
+				} catch (Exception e) {
+					failures.add(new Failure(rec, e));
+				}
+			}
+			if (!items.isEmpty()) {
+				itemRepo.saveAll(items);
+			}
+			// 변경된 Orders 는 커밋 시 dirty checking 으로 일괄 UPDATE
+			processedMessageStore.markProcessed(processed);
+		});
+
+		for (Failure f : failures) {
+			log.warn("[Saga] batch record failed topic={} offset={} err={}",
+				f.record().topic(), f.record().offset(), f.error().toString());
+			try {
+				recoverer.accept(f.record(), f.error());
+			} catch (Exception e) {
+				// 배치는 이미 커밋됐으므로 에러 핸들러로 넘기면 배치 전체가 재처리된다. 로그만 남긴다
+				log.error("[Saga] DLT publish failed topic={} offset={} err={}",
+					f.record().topic(), f.record().offset(), e.toString());
+			}
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("[Saga] batch topic={} size={} failed={}",
+				records.isEmpty() ? "-" : records.get(0).topic(), records.size(), failures.size());
+		}
+	}
+
+	private static UUID orderId(ConsumerRecord<String, String> rec) {
+		return UUID.fromString(header(rec, "orderId"));
+	}
+
+	private static String eventType(ConsumerRecord<String, String> rec) {
+		return header(rec, "eventType");
+	}
+
+	private static String dedupKey(ConsumerRecord<String, String> rec) {
+		Header orderId = rec.headers().lastHeader("orderId");
+		Header eventType = rec.headers().lastHeader("eventType");
+		if (orderId == null || eventType == null) {
+			return null;
+		}
+		Header attempt = rec.headers().lastHeader(RETRY_HEADER);
+		return ProcessedMessageStore.key(rec.topic(),
+			new String(orderId.value(), StandardCharsets.UTF_8),
+			new String(eventType.value(), StandardCharsets.UTF_8),
+			attempt == null ? null : new String(attempt.value(), StandardCharsets.UTF_8));
+	}
+
+	private static boolean isSuccess(ConsumerRecord<String, String> rec) {
+		return "success".equals(eventType(rec));
+	}
+
+	private static String header(ConsumerRecord<String, String> rec, String name) {
+		Header h = rec.headers().lastHeader(name);
+		if (h == null) {
+			throw new IllegalArgumentException("Missing header " + name);
+		}
+		return new String(h.value(), StandardCharsets.UTF_8);
+	}
+
+	@FunctionalInterface
+	private interface SagaStep {
+		void apply(Orders order, ConsumerRecord<String, String> rec, List<OrderItem> items, SagaEffects fx);
+	}
+
+	private record Failure(ConsumerRecord<String, String> record, Exception error) {
+	}
+}
@@ -0,0 +1,204 @@
+package app.domain.order.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartRedisService;
+import app.domain.order.kafka.event.OrderCancelEvent;
+import app.domain.order.kafka.event.OrderCompletedEvent;
+import app.domain.order.kafka.event.OrderStockItem;
+import app.domain.order.kafka.event.OrderValidatedItem;
+import app.domain.order.kafka.event.PaymentResultEvent;
+import app.domain.order.kafka.event.SagaEventCodec;
+import app.domain.order.kafka.event.StockResultEvent;
+import app.domain.order.kafka.repository.OutboxRepository;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.service.OrderStatusRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사가 결과 이벤트별 주문 상태 전이.
+ * 조회/저장은 호출자(단건 리스너, 배치 리스너)가 한다. 각 단계는 변경을 SagaEffects 에 쌓기만 하고,
+ * 호출자가 레코드 처리가 성공한 뒤 apply 로 한꺼번에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSagaHandler {
+
+	private final SagaEventCodec codec;
+	private final OutboxRepository outboxRepository;
+	private final CartRedisService cartRedisService;
+	private final OutboxNotifier outboxNotifier;
+	private final OrderStatusRecorder orderStatusRecorder;
+
+	@Value("${topics.order.canceled}")
+	private String orderCanceledTopic;
+
+	@Value("${topics.stock.request}")
+	private String stockDecreaseRequestTopic;
+
+	@Value("${topics.order.completed}")
+	private String orderCompletedTopic;
+
+	// 검증 결과: 성공이면 저장할 주문 상품 목록을 돌려준다
+	public List<OrderItem> onValidated(Orders order, String eventType, String message, SagaEffects fx) {
+		List<OrderItem> items = new ArrayList<>();
+		if ("success".equals(eventType)) {
+			List<OrderValidatedItem> evt = codec.readList(message, OrderValidatedItem.class);
+			if (evt != null) {
+				for (OrderValidatedItem it : evt) {
+					items.add(OrderItem.builder()
+						.orders(order)
+						.menuName(it.menuName())
+						.price(it.price())
+						.quantity(it.quantity())
+						.build());
+				}
+				changeStatus(fx, order, OrderStatus.CREATED);
+			}
+		} else if (order.getOrderStatus() != OrderStatus.FAILED) {
+			changeStatus(fx, order, OrderStatus.FAILED);
+		}
+		return items;
+	}
+
+	// 결제 성공: 재고 차감 요청 (주문 조회 불필요)
+	public void onPaymentSucceeded(UUID orderId, String message, SagaEffects fx) {
+		PaymentResultEvent evt = codec.read(message, PaymentResultEvent.class);
+		triggerStockDecrease(orderId, evt.userId(), fx);
+	}
+
+	public void onPaymentFailed(Orders order, SagaEffects fx) {
+		changeStatus(fx, order, OrderStatus.FAILED);
+	}
+
+	public void onStockResult(Orders order, String eventType, String message, SagaEffects fx) {
+		if ("success".equals(eventType)) {
+			changeStatus(fx, order, OrderStatus.ACCEPTED_READY);
+			return;
+		}
+		if (order.getOrderStatus() == OrderStatus.FAILED) {
+			return;
+		}
+
+		StockResultEvent evt = codec.read(message, StockResultEvent.class);
+		List<Outbox> outbox = outboxRepository.findByAggregateId(order.getOrdersId().toString());
+		for (Outbox outboxItem : outbox) {
+			fx.change(() -> {
+				outboxItem.updateError(evt.errorMessage());
+				outboxRepository.save(outboxItem);
+			});
+		}
+		changeStatus(fx, order, OrderStatus.FAILED);
+		emitOrderCanceled(order, true, fx);
+	}
+
+	public void onApproveResult(Orders order, String eventType, SagaEffects fx) {
+		if ("success".equals(eventType)) {
+			changeStatus(fx, order, OrderStatus.ACCEPTED);
+			appendOutbox(fx, Outbox.pending(
+				order.getOrdersId().toString(),
+				orderCompletedTopic,
+				"OrderCompletedEvent",
+				codec.write(new OrderCompletedEvent(order.getStoreId(), order.getUpdatedAt(), order.getTotalPrice()))
+			));
+			clearCart(fx, order.getUserId());
+		} else if (order.getOrderStatus() != OrderStatus.REJECTED) {
+			changeStatus(fx, order, OrderStatus.REJECTED);
+			emitOrderCanceled(order, false, fx);
+		}
+	}
+
+	// 레코드 처리가 성공한 뒤에만 호출한다. 커밋 후 작업은 실패해도 로그만 남긴다
+	public void apply(SagaEffects fx) {
+		fx.changes.forEach(Runnable::run);
+		if (fx.afterCommit.isEmpty()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					runAfterCommit(fx);
+				}
+			});
+		} else {
+			runAfterCommit(fx);
+		}
+	}
+
+	private void runAfterCommit(SagaEffects fx) {
+		for (Runnable action : fx.afterCommit) {
+			try {
+				action.run();
+			} catch (Exception e) {
+				log.warn("[Saga] after-commit action failed err={}", e.toString());
+			}
+		}
+	}
+
+	private void triggerStockDecrease(UUID orderId, Long userId, SagaEffects fx) {
+		appendOutbox(fx, Outbox.pending(
+			orderId.toString(),
+			stockDecreaseRequestTopic,
+			"OrderStockEvent",
+			toStockPayload(cartRedisService.getLatestCartFromRedis(userId))
+		));
+	}
+
+	private void emitOrderCanceled(Orders order, boolean status, SagaEffects fx) {
+		if (status) {
+			appendOutbox(fx, Outbox.pending(
+				order.getOrdersId().toString(),
+				orderCanceledTopic,
+				"orderCancelEvent",
+				codec.write(new OrderCancelEvent(order.getUserId()))
+			));
+		} else {
+			String payload = toStockPayload(cartRedisService.getLatestCartFromRedis(order.getUserId()));
+			appendOutbox(fx, Outbox.pending(
+				order.getOrdersId().toString(),
+				orderCanceledTopic,
+				"orderCanceledEventWithOrderItem",
+				payload,
+				order.getUserId() == null ? Map.of() : Map.of("userId", order.getUserId().toString())
+			));
+			clearCart(fx, order.getUserId());
+		}
+	}
+
+	private void changeStatus(SagaEffects fx, Orders order, OrderStatus status) {
+		fx.change(() -> orderStatusRecorder.change(order, status));
+	}
+
+	private void clearCart(SagaEffects fx, Long userId) {
+		fx.afterCommit(() -> cartRedisService.clearCartItems(userId));
+	}
+
+	private String toStockPayload(List<RedisCartItem> cartItems) {
+		List<OrderStockItem> payload = new ArrayList<>(cartItems.size());
+		for (RedisCartItem item : cartItems) {
+			payload.add(new OrderStockItem(item.getMenuId(), item.getQuantity()));
+		}
+		return codec.writeList(payload, OrderStockItem.class);
+	}
+
+	private void appendOutbox(SagaEffects fx, Outbox outbox) {
+		fx.change(() -> {
+			outboxRepository.save(outbox);
+			outboxNotifier.notifyPending(outbox.getAggregateId());
+		});
+	}
+}
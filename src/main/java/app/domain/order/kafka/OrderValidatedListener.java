@@ -1,259 +1,126 @@
 package app.domain.order.kafka;
 
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
-import app.domain.cart.model.dto.RedisCartItem;
-import app.domain.cart.service.CartRedisService;
-import app.domain.order.kafka.repository.OutboxRepository;
 import app.domain.order.model.entity.OrderItem;
 import app.domain.order.model.entity.Orders;
-import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.repository.OrderItemRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+// kafka.listener.batch.enabled=true 이면 OrderSagaBatchListener 가 대신 소비한다
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.listener.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class OrderValidatedListener {
 
 	private final OrdersRepository ordersRepo;
 	private final OrderItemRepository itemRepo;
-	private final ObjectMapper objectMapper;
-	private final OutboxRepository outboxRepository;
-	private final CartRedisService cartRedisService;
+	private final OrderSagaHandler sagaHandler;
+	private final ProcessedMessageStore processedMessageStore;
 
-	@Value("${topics.order.canceled}")
-	private String orderCanceledTopic;
+	private static final String RETRY_HEADER = "x-retry-attempt";
 
-	@Value("${topics.stock.request}")
-	private String stockDecreaseRequestTopic;
-
-	@Value("${topics.order.completed}")
-	private String orderCompletedTopic;
-
-	@KafkaListener(topics = "${topics.order.validated}",groupId = "order-valid")
+	@KafkaListener(topics = "${topics.order.validated}", id = "order-valid", groupId = "order-valid",
+		concurrency = "${kafka.listener.concurrency.order-valid:${kafka.listener.concurrency.default:1}}")
 	public void OrderValidated(
 		String message,
 		@Header("orderId") String orderIdStr,
-		@Header("eventType") String eventType
+		@Header("eventType") String eventType,
+		@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+		@Header(name = RETRY_HEADER, required = false) String attempt
 	) {
-		List<Map<String, Object>> evt;
-		try {
-			evt = objectMapper.readValue(message, List.class);
-		} catch (JsonProcessingException e) {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
-
-		Orders order = ordersRepo.findById(UUID.fromString(orderIdStr))
-			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
-		if ("success".equals(eventType)) {
-				if (evt != null) {
-					for (Map<String, Object> it : evt) {
-						OrderItem entity = OrderItem.builder()
-							.orders(order)
-							.menuName(String.valueOf(it.get("menuName")))
-							.price(Long.parseLong(String.valueOf(it.get("price"))))
-							.quantity(Integer.parseInt(String.valueOf(it.get("quantity"))))
-							.build();
-						itemRepo.save(entity);
-					}
-				order.updateOrderStatus(OrderStatus.CREATED);
-				ordersRepo.save(order);
-			}
-		} else {
-			if (order.getOrderStatus() != OrderStatus.FAILED) {
-				order.updateOrderStatus(OrderStatus.FAILED);
-				ordersRepo.save(order);
-			}
+		String key = ProcessedMessageStore.key(topic, orderIdStr, eventType, attempt);
+		if (processedMessageStore.isProcessed(key)) return;
+
+		Orders order = findOrder(orderIdStr);
+		SagaEffects fx = new SagaEffects();
+		List<OrderItem> items = sagaHandler.onValidated(order, eventType, message, fx);
+		sagaHandler.apply(fx);
+		if (!items.isEmpty()) {
+			itemRepo.saveAll(items);
 		}
+		ordersRepo.save(order);
+		processedMessageStore.markProcessed(key);
 	}
 
 
-	@KafkaListener(topics = "${topics.payment.result}",groupId = "payment-result")
+	@KafkaListener(topics = "${topics.payment.result}", id = "payment-result", groupId = "payment-result",
+		concurrency = "${kafka.listener.concurrency.payment-result:${kafka.listener.concurrency.default:1}}")
 	public void PaymentResult(
 		String message,
 		@Header("orderId") String orderIdStr,
-		@Header("eventType") String eventType
+		@Header("eventType") String eventType,
+		@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+		@Header(name = RETRY_HEADER, required = false) String attempt
 	) {
-		if ("success".equals(eventType)) {
-			Map<String, Object> evt;
-			try {
-				evt = objectMapper.readValue(message, Map.class);
-
-				Long userId = Long.parseLong(evt.get("userId").toString());
-
-				triggerStockDecrease(UUID.fromString(orderIdStr), userId);
+		String key = ProcessedMessageStore.key(topic, orderIdStr, eventType, attempt);
+		if (processedMessageStore.isProcessed(key)) return;
 
-			} catch (JsonProcessingException e) {
-				throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-			}
+		SagaEffects fx = new SagaEffects();
+		if ("success".equals(eventType)) {
+			sagaHandler.onPaymentSucceeded(UUID.fromString(orderIdStr), message, fx);
+			sagaHandler.apply(fx);
 		}else{
-			Orders order= ordersRepo.findById(UUID.fromString(orderIdStr))
-				.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
-			order.updateOrderStatus(OrderStatus.FAILED);
-		}
-	}
-
-
-	private void triggerStockDecrease( UUID orderId,Long userId) {
-		List<RedisCartItem> cartItems= cartRedisService.getCartFromRedis(userId);
-		List<Map<String, Object>> payload = new ArrayList<>();
-
-		for (RedisCartItem item : cartItems) {
-			Map<String, Object> map = new HashMap<>();
-			map.put("menuId", item.getMenuId());
-			map.put("quantity", item.getQuantity());
-			payload.add(map);
-		}
-
-
-		String payloadJson;
-		try {
-			payloadJson = objectMapper.writeValueAsString(payload);
-		} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+			Orders order = findOrder(orderIdStr);
+			sagaHandler.onPaymentFailed(order, fx);
+			sagaHandler.apply(fx);
+			ordersRepo.save(order);
 		}
-		outboxRepository.save(Outbox.pending(
-			orderId.toString(),
-			stockDecreaseRequestTopic,
-			"OrderStockEvent",
-			payloadJson
-		));
+		processedMessageStore.markProcessed(key);
 	}
 
-	@KafkaListener(topics = "${topics.stock.result}",groupId = "stock-result")
+	@KafkaListener(topics = "${topics.stock.result}", id = "stock-result", groupId = "stock-result",
+		concurrency = "${kafka.listener.concurrency.stock-result:${kafka.listener.concurrency.default:1}}")
 	public void StockResult(
 		@Header("orderId") String orderIdStr,
 		@Header("eventType") String eventType,
+		@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+		@Header(name = RETRY_HEADER, required = false) String attempt,
 		String message
 	) {
-		Orders order = ordersRepo.findById(UUID.fromString(orderIdStr))
-			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
-		if ("success".equals(eventType)) {
-			order.updateOrderStatus(OrderStatus.ACCEPTED_READY);
-			ordersRepo.save(order);
-		} else {
-			if (order.getOrderStatus() != OrderStatus.FAILED) {
-
-				Map<String, Object> payloadJson;
-				try {
-					payloadJson = objectMapper.readValue(message,Map.class);
-				} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-					throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-				}
-				List<Outbox> outbox = outboxRepository.findByAggregateId(orderIdStr);
-				for(Outbox outboxItem : outbox) {
-					outboxItem.updateError(payloadJson.get("errorMessage").toString());
-					outboxRepository.save(outboxItem);
-				}
-				order.updateOrderStatus(OrderStatus.FAILED);
-				ordersRepo.save(order);
-				emitOrderCanceled(order,true);
-			}
-
-		}
+		String key = ProcessedMessageStore.key(topic, orderIdStr, eventType, attempt);
+		if (processedMessageStore.isProcessed(key)) return;
+
+		Orders order = findOrder(orderIdStr);
+		SagaEffects fx = new SagaEffects();
+		sagaHandler.onStockResult(order, eventType, message, fx);
+		sagaHandler.apply(fx);
+		ordersRepo.save(order);
+		processedMessageStore.markProcessed(key);
 	}
 
-	@KafkaListener(topics = "${topics.order.approve}",groupId = "order-approve-result")
+	@KafkaListener(topics = "${topics.order.approve}", id = "order-approve-result", groupId = "order-approve-result",
+		concurrency = "${kafka.listener.concurrency.order-approve-result:${kafka.listener.concurrency.default:1}}")
 	public void  orderAcceptResult(
 		@Header("orderId") String orderIdStr,
-		@Header("eventType") String eventType
+		@Header("eventType") String eventType,
+		@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+		@Header(name = RETRY_HEADER, required = false) String attempt
 	) {
-		Orders order = ordersRepo.findById(UUID.fromString(orderIdStr))
-			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
-		if ("success".equals(eventType)) {
-			cartRedisService.clearCartItems(order.getUserId());
-			order.updateOrderStatus(OrderStatus.ACCEPTED);
-			ordersRepo.save(order);
-			Map<String, Object> payload = new HashMap<>();
-			payload.put("storeId", order.getStoreId());
-			payload.put("orderTime", order.getUpdatedAt());
-			payload.put("totalPrice", order.getTotalPrice());
-
-			String payloadJson;
-			try {
-				payloadJson = objectMapper.writeValueAsString(payload);
-			} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-				throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-			}
-			outboxRepository.save(
-				Outbox.pending(
-					order.getOrdersId().toString(),
-					orderCompletedTopic,
-					"OrderCompletedEvent",
-					payloadJson
-				)
-			);
-		} else {
-			if (order.getOrderStatus() != OrderStatus.REJECTED) {
-				order.updateOrderStatus(OrderStatus.REJECTED);
-				ordersRepo.save(order);
-				emitOrderCanceled(order,false);
-			}
-		}
+		String key = ProcessedMessageStore.key(topic, orderIdStr, eventType, attempt);
+		if (processedMessageStore.isProcessed(key)) return;
+
+		Orders order = findOrder(orderIdStr);
+		SagaEffects fx = new SagaEffects();
+		sagaHandler.onApproveResult(order, eventType, fx);
+		sagaHandler.apply(fx);
+		ordersRepo.save(order);
+		processedMessageStore.markProcessed(key);
 	}
 
-	private void emitOrderCanceled(Orders order, boolean status) {
-		if(status){
-			Map<String, Object> payload = Map.of(
-				"userId", order.getUserId()
-			);
-			try {
-				String payLoadJson = objectMapper.writeValueAsString(payload);
-				outboxRepository.save(
-					Outbox.pending(
-						order.getOrdersId().toString(),
-						orderCanceledTopic,
-						"orderCancelEvent",
-						payLoadJson
-					)
-				);
-			} catch (JsonProcessingException e) {
-				throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-			}
-		}else{
-			List<RedisCartItem> cartItems= cartRedisService.getCartFromRedis(order.getUserId());
-			List<Map<String, Object>> payload = new ArrayList<>();
-
-			for (RedisCartItem item : cartItems) {
-				Map<String, Object> map = new HashMap<>();
-				map.put("menuId", item.getMenuId());
-				map.put("quantity", item.getQuantity());
-				payload.add(map);
-			}
-			cartRedisService.clearCartItems(order.getUserId());
-			try {
-				String payLoadJson = objectMapper.writeValueAsString(payload);
-				outboxRepository.save(
-					Outbox.pending(
-						order.getOrdersId().toString(),
-						orderCanceledTopic,
-						"orderCanceledEventWithOrderItem",
-						payLoadJson
-					)
-				);
-			} catch (JsonProcessingException e) {
-				throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-			}
-
-		}
-
-
+	private Orders findOrder(String orderIdStr) {
+		return ordersRepo.findById(UUID.fromString(orderIdStr))
+			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
 	}
-
-
-}
\ No newline at end of file
+}
@@ -7,10 +7,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Map;
 import java.util.UUID;
 
+// 부분 인덱스 ix_outbox_pending_created_at(created_at WHERE PENDING), ix_outbox_sent_updated_at(updated_at WHERE SENT)와
+// outbox_archive 테이블은 @Index 로 표현할 수 없어 OutboxSchemaInitializer 가 만든다
 @Entity
-@Table(name = "outbox")
+@Table(name = "outbox", indexes = {
+	@Index(name = "ix_outbox_aggregate_id", columnList = "aggregate_id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -39,17 +44,28 @@ public class Outbox extends BaseEntity {
 	@Column(length = 512)
 	private String lastError;
 
+	// 발행 시 그대로 붙일 Kafka 헤더 (생성 시점에 미리 계산)
+	@Convert(converter = OutboxHeadersConverter.class)
+	@Column(columnDefinition = "TEXT")
+	private Map<String, String> headers;
+
 	public enum Status { PENDING, SENT, FAILED }
 
 	public void updateError(String lastError){
 		this.lastError = lastError;
 	}
 	public static Outbox pending( String aggregateId, String topic,String eventType, String payloadJson) {
+		return pending(aggregateId, topic, eventType, payloadJson, Map.of());
+	}
+
+	public static Outbox pending(String aggregateId, String topic, String eventType, String payloadJson,
+		Map<String, String> headers) {
 		 return Outbox.builder()
 			 .aggregateId(aggregateId)
 			 .topic(topic)
 			 .eventType(eventType)
 			 .payloadJson(payloadJson)
+			 .headers(headers)
 			 .status(Status.PENDING)
 			 .build();
 	}
@@ -0,0 +1,43 @@
+package app.domain.order.kafka;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// outbox.headers (JSON 문자열) <-> Map
+@Converter
+public class OutboxHeadersConverter implements AttributeConverter<Map<String, String>, String> {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final TypeReference<Map<String, String>> TYPE = new TypeReference<>() {
+	};
+
+	@Override
+	public String convertToDatabaseColumn(Map<String, String> headers) {
+		if (headers == null || headers.isEmpty()) {
+			return null;
+		}
+		try {
+			return MAPPER.writeValueAsString(headers);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Invalid outbox headers", e);
+		}
+	}
+
+	@Override
+	public Map<String, String> convertToEntityAttribute(String json) {
+		if (json == null || json.isBlank()) {
+			return Map.of();
+		}
+		try {
+			return MAPPER.readValue(json, TYPE);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Invalid outbox headers", e);
+		}
+	}
+}
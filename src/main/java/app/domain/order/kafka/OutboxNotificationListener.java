@@ -0,0 +1,121 @@
+package app.domain.order.kafka;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전용 커넥션으로 LISTEN 하고 있다가 NOTIFY 가 오면 relay 를 바로 깨운다.
+ * 폴링(outbox.relay.fixed-delay-ms)은 놓친 알림을 위한 안전망으로만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.relay.notify.enabled", havingValue = "true")
+public class OutboxNotificationListener implements SmartLifecycle {
+
+	private final DataSource dataSource;
+	private final OutboxWakeup outboxWakeup;
+	private final ObjectProvider<OutboxRelay> outboxRelay;
+
+	@Value("${outbox.relay.notify.channel:outbox_pending}")
+	private String channel;
+
+	@Value("${outbox.relay.notify.poll-timeout-ms:1000}")
+	private int pollTimeoutMs;
+
+	@Value("${outbox.relay.notify.reconnect-delay-ms:3000}")
+	private long reconnectDelayMs;
+
+	private volatile boolean running;
+	private Thread listenerThread;
+
+	@Override
+	public void start() {
+		running = true;
+		listenerThread = new Thread(this::listen, "outbox-listen");
+		listenerThread.setDaemon(true);
+		listenerThread.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (listenerThread != null) {
+			listenerThread.interrupt();
+			try {
+				listenerThread.join(pollTimeoutMs + 1000L);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void listen() {
+		while (running) {
+			try (Connection con = dataSource.getConnection()) {
+				con.setAutoCommit(true);
+				try (Statement st = con.createStatement()) {
+					st.execute("LISTEN " + channel);
+				}
+				PGConnection pg = con.unwrap(PGConnection.class);
+				log.info("[Outbox] listening on channel={}", channel);
+
+				// 재연결 사이에 들어온 이벤트부터 처리
+				onNotify();
+				while (running) {
+					PGNotification[] notifications = pg.getNotifications(pollTimeoutMs);
+					if (notifications != null && notifications.length > 0) {
+						onNotify();
+					}
+				}
+			} catch (SQLException e) {
+				if (!running) {
+					return;
+				}
+				log.warn("[Outbox] LISTEN connection lost, retry in {}ms: {}", reconnectDelayMs, e.toString());
+				try {
+					Thread.sleep(reconnectDelayMs);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void onNotify() {
+		outboxWakeup.signal();
+
+		// 샤드 모드가 아니면 이 스레드가 직접 비운다
+		OutboxRelay relay = outboxRelay.getIfAvailable();
+		if (relay == null) {
+			return;
+		}
+		try {
+			while (running && relay.relay() > 0) {
+				// 빈 배치가 나올 때까지 반복
+			}
+		} catch (Exception e) {
+			log.error("[Outbox] relay on notify failed", e);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package app.domain.order.kafka;
+
+import java.sql.PreparedStatement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 를 저장한 트랜잭션 안에서 pg_notify 를 보낸다.
+ * NOTIFY 는 커밋 시점에 전달되므로 relay 는 커밋된 행만 보게 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxNotifier {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${outbox.relay.notify.enabled:false}")
+	private boolean enabled;
+
+	@Value("${outbox.relay.notify.channel:outbox_pending}")
+	private String channel;
+
+	public void notifyPending(String aggregateId) {
+		if (!enabled) {
+			return;
+		}
+		jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+			try (PreparedStatement ps = con.prepareStatement("SELECT pg_notify(?, ?)")) {
+				ps.setString(1, channel);
+				ps.setString(2, aggregateId);
+				ps.execute();
+			}
+			return null;
+		});
+	}
+}
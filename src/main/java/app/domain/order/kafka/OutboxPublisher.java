@@ -0,0 +1,216 @@
+package app.domain.order.kafka;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import app.domain.order.kafka.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * fetchPendingForUpdate 로 잠근 outbox 배치를 Kafka 로 발행하고 결과를 일괄 반영한다.
+ * 호출자의 트랜잭션 안에서 실행되어야 한다.
+ * outbox.producer.transactional=true 이면 배치 단위 Kafka 트랜잭션으로 발행한다.
+ */
+@Slf4j
+@Component
+public class OutboxPublisher {
+
+	private final KafkaTemplate<String, String> kafka;
+	private final OutboxRepository outboxRepository;
+
+	private final Timer batchTimer;
+	private final DistributionSummary batchSizeSummary;
+	private final DistributionSummary throughputSummary;
+	private final Counter sentCounter;
+	private final Counter failedCounter;
+
+	// false 면 레코드마다 send().get() 으로 기다리는 기존 방식
+	@Value("${outbox.relay.pipelined:true}")
+	private boolean pipelined;
+
+	@Value("${outbox.relay.send-timeout-ms:10000}")
+	private long sendTimeoutMs;
+
+	public OutboxPublisher(
+		@Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> kafka,
+		OutboxRepository outboxRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.kafka = kafka;
+		this.outboxRepository = outboxRepository;
+		this.batchTimer = Timer.builder("outbox.relay.batch.duration")
+			.description("Time to publish one outbox batch and persist its status")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+			.description("Rows per relayed outbox batch")
+			.register(meterRegistry);
+		this.throughputSummary = DistributionSummary.builder("outbox.relay.batch.throughput")
+			.description("Events per second observed for a relayed outbox batch")
+			.baseUnit("events/s")
+			.register(meterRegistry);
+		this.sentCounter = Counter.builder("outbox.relay.events")
+			.tag("result", "sent")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("outbox.relay.events")
+			.tag("result", "failed")
+			.register(meterRegistry);
+	}
+
+	public BatchResult publish(List<Outbox> batch) {
+		if (batch.isEmpty()) {
+			return new BatchResult(0, 0, 0, 0L);
+		}
+		long start = System.nanoTime();
+		List<UUID> sentIds = new ArrayList<>(batch.size());
+		Map<String, List<UUID>> failedIds = new LinkedHashMap<>();
+
+		if (kafka.isTransactional()) {
+			publishInTransaction(batch, sentIds, failedIds);
+		} else {
+			publishEach(batch, start, sentIds, failedIds);
+		}
+
+		// 결과별로 UPDATE 1회씩
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		if (!sentIds.isEmpty()) {
+			outboxRepository.markSentAll(sentIds, now);
+		}
+		failedIds.forEach((err, ids) -> outboxRepository.markFailedAll(ids, now, err));
+
+		int failed = batch.size() - sentIds.size();
+		long elapsed = System.nanoTime() - start;
+		record(batch.size(), sentIds.size(), failed, elapsed);
+		return new BatchResult(batch.size(), sentIds.size(), failed, elapsed);
+	}
+
+	// 배치 전체를 Kafka 트랜잭션 하나로 발행: 하나라도 실패하면 abort 되고 전부 FAILED
+	private void publishInTransaction(List<Outbox> batch, List<UUID> sentIds, Map<String, List<UUID>> failedIds) {
+		try {
+			kafka.executeInTransaction(ops -> {
+				List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(batch.size());
+				for (Outbox e : batch) {
+					futures.add(ops.send(toRecord(e)));
+				}
+				ops.flush();
+				try {
+					CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+						.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new KafkaException("Outbox transaction interrupted", ex);
+				} catch (ExecutionException | TimeoutException ex) {
+					throw new KafkaException("Outbox transaction send failed", ex);
+				}
+				return null;
+			});
+			batch.forEach(e -> sentIds.add(e.getId()));
+		} catch (Exception ex) {
+			Throwable cause = ex;
+			while (cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			String err = abbreviate(cause.toString(), 480);
+			log.error("Outbox relay transaction aborted size={} err={}", batch.size(), err);
+			failedIds.put(err, batch.stream().map(Outbox::getId).toList());
+		}
+	}
+
+	private void publishEach(List<Outbox> batch, long start, List<UUID> sentIds, Map<String, List<UUID>> failedIds) {
+		List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(batch.size());
+		for (Outbox e : batch) {
+			futures.add(send(e));
+		}
+		if (pipelined) {
+			kafka.flush();
+		}
+
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+		for (int i = 0; i < batch.size(); i++) {
+			Outbox e = batch.get(i);
+			try {
+				long remaining = Math.max(0L, deadline - System.nanoTime());
+				futures.get(i).get(remaining, TimeUnit.NANOSECONDS);
+				sentIds.add(e.getId());
+			} catch (Exception ex) {
+				if (ex instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				Throwable cause = (ex instanceof ExecutionException && ex.getCause() != null) ? ex.getCause() : ex;
+				String err = abbreviate(cause.toString(), 480);
+				log.error("Outbox relay failed id={} topic={} err={}", e.getId(), e.getTopic(), err);
+				failedIds.computeIfAbsent(err, k -> new ArrayList<>()).add(e.getId());
+			}
+		}
+	}
+
+	private CompletableFuture<SendResult<String, String>> send(Outbox e) {
+		try {
+			CompletableFuture<SendResult<String, String>> future = kafka.send(toRecord(e));
+			if (!pipelined) {
+				future.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+			}
+			return future;
+		} catch (Exception ex) {
+			if (ex instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	private ProducerRecord<String, String> toRecord(Outbox e) {
+		// aggregateId 를 key 로 써서 같은 주문의 이벤트가 같은 파티션에 순서대로 쌓이도록 한다
+		ProducerRecord<String, String> record =
+			new ProducerRecord<>(e.getTopic(), e.getAggregateId(), e.getPayloadJson());
+
+		record.headers().add(new RecordHeader("orderId", e.getAggregateId().getBytes()));
+		// userId 등 추가 헤더는 outbox 생성 시점에 미리 저장된 값을 그대로 쓴다 (발행 중 DB 조회 없음)
+		if (e.getHeaders() != null) {
+			e.getHeaders().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes())));
+		}
+		return record;
+	}
+
+	private void record(int size, int sent, int failed, long elapsedNanos) {
+		batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		batchSizeSummary.record(size);
+		sentCounter.increment(sent);
+		failedCounter.increment(failed);
+
+		double eventsPerSec = elapsedNanos > 0 ? size * 1_000_000_000d / elapsedNanos : 0d;
+		throughputSummary.record(eventsPerSec);
+		log.debug("[Outbox] batch size={} sent={} failed={} took={}ms ({} events/s)",
+			size, sent, failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(eventsPerSec));
+	}
+
+	private static String abbreviate(String s, int max) {
+		return (s == null || s.length() <= max) ? s : s.substring(0, max);
+	}
+
+	public record BatchResult(int size, int sent, int failed, long elapsedNanos) {
+	}
+}
@@ -1,75 +1,43 @@
 package app.domain.order.kafka;
 
-import app.commonUtil.apiPayload.code.status.ErrorStatus;
-import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.order.kafka.repository.OutboxRepository;
-import app.domain.order.model.entity.Orders;
-import app.domain.order.model.repository.OrdersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.List;
-import java.util.UUID;
-
-import net.bytebuddy.asm.Advice;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.relay.sharded.enabled", havingValue = "false", matchIfMissing = true)
 public class OutboxRelay {
 
 	private final OutboxRepository outboxRepository;
-	private final KafkaTemplate<String, String> kafka;
-	private final OrdersRepository ordersRepository;
+	private final OutboxPublisher outboxPublisher;
+
+	// 스케줄러와 NOTIFY 리스너가 같은 파드에서 동시에 비우지 않도록
+	private final ReentrantLock relayLock = new ReentrantLock();
 
 	@Value("${outbox.relay.batch-size:200}")
 	private int batchSize;
-	//짧은 주기로 반복
+	//짧은 주기로 반복 (NOTIFY 사용 시에는 안전망 주기)
 	@Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:500}")
 	@Transactional
-	public void relay() {
-		List<Outbox> batch = outboxRepository.fetchPendingForUpdate(batchSize);
-		if (batch.isEmpty()) return;
-
-		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-
-		for (Outbox e : batch) {
-			try {
-				ProducerRecord<String, String> record =
-					new ProducerRecord<>(e.getTopic(), e.getPayloadJson());
-
-				record.headers().add(new RecordHeader("orderId", e.getAggregateId().getBytes()));
-				if ("orderCanceledEventWithOrderItem".equals(e.getEventType())) {
-					Orders order=ordersRepository.findById(UUID.fromString(e.getAggregateId())).orElseThrow(
-						() -> new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR)
-					);
-					record.headers().add(new RecordHeader("userId", order.getUserId().toString().getBytes()));
-				}
-
-				kafka.send(record).get();
-
-				outboxRepository.markSent(e.getId(), now);
-
-			} catch (Exception ex) {
-				String err = abbreviate(ex.toString(), 480);
-				log.error("Outbox relay failed id={} topic={} err={}", e.getId(), e.getTopic(), err);
-				outboxRepository.markFailed(e.getId(), now, err);
-			}
+	public int relay() {
+		relayLock.lock();
+		try {
+			List<Outbox> batch = outboxRepository.fetchPendingForUpdate(batchSize);
+			if (batch.isEmpty()) return 0;
+
+			return outboxPublisher.publish(batch).size();
+		} finally {
+			relayLock.unlock();
 		}
 	}
-
-	private static String abbreviate(String s, int max) {
-		return (s == null || s.length() <= max) ? s : s.substring(0, max);
-	}
-}
\ No newline at end of file
+}
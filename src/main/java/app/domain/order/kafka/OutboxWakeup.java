@@ -0,0 +1,41 @@
+package app.domain.order.kafka;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 새 outbox 가 들어왔음을 relay 워커에게 알리는 신호.
+ * generation 을 기억해 두고 기다리므로 drain 도중 들어온 신호도 놓치지 않는다.
+ */
+@Component
+public class OutboxWakeup {
+
+	private final Object monitor = new Object();
+	private long generation;
+
+	public void signal() {
+		synchronized (monitor) {
+			generation++;
+			monitor.notifyAll();
+		}
+	}
+
+	public long generation() {
+		synchronized (monitor) {
+			return generation;
+		}
+	}
+
+	// seen 이후 신호가 오거나 timeout 이 지날 때까지 대기
+	public void awaitAfter(long seen, long timeoutMs) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMs;
+		synchronized (monitor) {
+			while (generation == seen) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return;
+				}
+				monitor.wait(remaining);
+			}
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package app.domain.order.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사가 리스너 중복 처리 방지용 처리 완료 메시지 저장소.
+ * 키 = topic:orderId:eventType:attempt. 로컬 Caffeine(상한 있음) → Redis 순으로 확인하므로
+ * 재전달/리밸런스로 들어온 중복은 주문 조회 전에 버려진다.
+ * 처리 완료 기록은 트랜잭션 커밋 이후에만 남긴다 (롤백된 처리는 다시 받아야 하므로).
+ */
+@Slf4j
+@Component
+public class ProcessedMessageStore {
+
+	private static final String KEY_PREFIX = "processed:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Cache<String, Boolean> local;
+	private final Counter duplicateCounter;
+
+	@Value("${kafka.idempotency.enabled:true}")
+	private boolean enabled;
+
+	@Value("${kafka.idempotency.ttl:P1D}")
+	private Duration ttl;
+
+	public ProcessedMessageStore(
+		RedisTemplate<String, String> redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${kafka.idempotency.local-max-size:100000}") long localMaxSize,
+		@Value("${kafka.idempotency.local-ttl:PT10M}") Duration localTtl
+	) {
+		this.redisTemplate = redisTemplate;
+		this.local = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(localTtl)
+			.build();
+		this.duplicateCounter = Counter.builder("kafka.listener.duplicates")
+			.description("Saga records dropped because they were already processed")
+			.register(meterRegistry);
+	}
+
+	public static String key(String topic, String orderId, String eventType, String attempt) {
+		return topic + ":" + orderId + ":" + eventType + ":" + (attempt == null ? "0" : attempt);
+	}
+
+	public boolean isProcessed(String key) {
+		if (!enabled) return false;
+		if (local.getIfPresent(key) != null) {
+			duplicateCounter.increment();
+			return true;
+		}
+		try {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + key))) {
+				local.put(key, Boolean.TRUE);
+				duplicateCounter.increment();
+				return true;
+			}
+		} catch (Exception e) {
+			// Redis 장애 시에는 처리 쪽으로 (기존 상태 체크가 2차 방어)
+			log.warn("[Idempotency] lookup failed key={} err={}", key, e.toString());
+		}
+		return false;
+	}
+
+	// 배치용: 이미 처리된 키 집합. 로컬에 없는 키만 MGET 한 번으로 Redis 에서 확인한다
+	public Set<String> processedOf(Collection<String> keys) {
+		if (!enabled || keys.isEmpty()) return Set.of();
+		Set<String> processed = new HashSet<>();
+		List<String> remote = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			if (local.getIfPresent(key) != null) {
+				processed.add(key);
+			} else {
+				remote.add(key);
+			}
+		}
+		if (!remote.isEmpty()) {
+			try {
+				List<String> values = redisTemplate.opsForValue()
+					.multiGet(remote.stream().map(k -> KEY_PREFIX + k).toList());
+				for (int i = 0; values != null && i < remote.size(); i++) {
+					if (values.get(i) != null) {
+						local.put(remote.get(i), Boolean.TRUE);
+						processed.add(remote.get(i));
+					}
+				}
+			} catch (Exception e) {
+				// Redis 장애 시에는 처리 쪽으로 (기존 상태 체크가 2차 방어)
+				log.warn("[Idempotency] batch lookup failed size={} err={}", remote.size(), e.toString());
+			}
+		}
+		duplicateCounter.increment(processed.size());
+		return processed;
+	}
+
+	public void markProcessed(String key) {
+		markProcessed(List.of(key));
+	}
+
+	// 트랜잭션 안이면 커밋 후, 아니면 즉시 기록
+	public void markProcessed(Collection<String> keys) {
+		if (!enabled || keys.isEmpty()) return;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					write(keys);
+				}
+			});
+		} else {
+			write(keys);
+		}
+	}
+
+	private void write(Collection<String> keys) {
+		keys.forEach(k -> local.put(k, Boolean.TRUE));
+		try {
+			byte[] value = "1".getBytes(StandardCharsets.UTF_8);
+			Expiration expiration = Expiration.from(ttl);
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (String k : keys) {
+					connection.stringCommands().set((KEY_PREFIX + k).getBytes(StandardCharsets.UTF_8), value,
+						expiration, RedisStringCommands.SetOption.SET_IF_ABSENT);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("[Idempotency] mark failed size={} err={}", keys.size(), e.toString());
+		}
+	}
+}
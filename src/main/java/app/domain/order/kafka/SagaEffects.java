@@ -0,0 +1,25 @@
+package app.domain.order.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사가 레코드 하나가 만들어 낸 변경 목록. 핸들러는 읽기/검증만 바로 하고 변경은 여기에 쌓는다.
+ * 레코드 처리가 끝까지 성공한 경우에만 OrderSagaHandler.apply 로 반영되므로
+ * 중간에 실패한 레코드가 주문/outbox/장바구니를 반쯤 바꾼 채 커밋되는 일이 없다.
+ */
+public class SagaEffects {
+
+	// 같은 트랜잭션 안에서 반영 (주문 상태, outbox INSERT, pg_notify)
+	final List<Runnable> changes = new ArrayList<>();
+	// 커밋 후 반영 (Redis 장바구니 등 롤백할 수 없는 외부 변경)
+	final List<Runnable> afterCommit = new ArrayList<>();
+
+	void change(Runnable change) {
+		changes.add(change);
+	}
+
+	void afterCommit(Runnable action) {
+		afterCommit.add(action);
+	}
+}
@@ -0,0 +1,222 @@
+package app.domain.order.kafka;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.order.kafka.repository.OutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * aggregateId 해시로 outbox 를 N 개 샤드로 나눠 여러 워커가 병렬로 발행한다.
+ * 샤드 하나는 한 시점에 한 워커(advisory lock 으로 파드 간에도 하나)만 비우므로
+ * 같은 주문의 이벤트는 created_at 순서대로 나가고, 다른 주문끼리는 병렬로 나간다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.sharded.enabled", havingValue = "true")
+public class ShardedOutboxRelay implements SmartLifecycle {
+
+	// pg_try_advisory_xact_lock(namespace, shard) 의 namespace ("outb")
+	private static final int LOCK_NAMESPACE = 0x6f757462;
+
+	private final OutboxRepository outboxRepository;
+	private final OutboxPublisher outboxPublisher;
+	private final OutboxWakeup outboxWakeup;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${outbox.relay.batch-size:200}")
+	private int batchSize;
+
+	@Value("${outbox.relay.sharded.shards:8}")
+	private int shardCount;
+
+	@Value("${outbox.relay.sharded.concurrency:4}")
+	private int concurrency;
+
+	@Value("${outbox.relay.sharded.idle-delay-ms:${outbox.relay.fixed-delay-ms:500}}")
+	private long idleDelayMs;
+
+	// JDK 21 이상에서만 사용 가능
+	@Value("${outbox.relay.sharded.virtual-threads:false}")
+	private boolean virtualThreads;
+
+	private volatile boolean running;
+	private SimpleAsyncTaskExecutor executor;
+	private ShardStats[] stats;
+
+	public ShardedOutboxRelay(
+		OutboxRepository outboxRepository,
+		OutboxPublisher outboxPublisher,
+		OutboxWakeup outboxWakeup,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry
+	) {
+		this.outboxRepository = outboxRepository;
+		this.outboxPublisher = outboxPublisher;
+		this.outboxWakeup = outboxWakeup;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void start() {
+		int workers = Math.max(1, Math.min(concurrency, shardCount));
+		stats = new ShardStats[shardCount];
+		for (int shard = 0; shard < shardCount; shard++) {
+			stats[shard] = new ShardStats();
+			registerGauges(shard, stats[shard]);
+		}
+
+		executor = new SimpleAsyncTaskExecutor("outbox-relay-");
+		executor.setVirtualThreads(virtualThreads);
+		executor.setTaskTerminationTimeout(5_000);
+		running = true;
+
+		for (int worker = 0; worker < workers; worker++) {
+			List<Integer> owned = new ArrayList<>();
+			for (int shard = worker; shard < shardCount; shard += workers) {
+				owned.add(shard);
+			}
+			executor.execute(() -> runWorker(owned));
+		}
+		log.info("[Outbox] sharded relay started shards={} workers={} virtualThreads={}",
+			shardCount, workers, virtualThreads);
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (executor != null) {
+			executor.close();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void runWorker(List<Integer> shards) {
+		while (running) {
+			long seen = outboxWakeup.generation();
+			int drained = 0;
+			for (int shard : shards) {
+				try {
+					drained += drainShard(shard);
+				} catch (Exception e) {
+					log.error("[Outbox] shard {} relay failed", shard, e);
+				}
+			}
+			if (drained == 0 && !idle(seen)) {
+				return;
+			}
+		}
+	}
+
+	// NOTIFY 가 오거나 idle-delay 가 지날 때까지 대기
+	private boolean idle(long seen) {
+		try {
+			outboxWakeup.awaitAfter(seen, idleDelayMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private int drainShard(int shard) {
+		Integer relayed = transactionTemplate.execute(status -> {
+			if (!outboxRepository.tryLockShard(LOCK_NAMESPACE, shard)) {
+				return 0;
+			}
+			List<Outbox> batch = outboxRepository.fetchPendingForUpdateByShard(shardCount, shard, batchSize);
+			return outboxPublisher.publish(batch).size();
+		});
+		int n = relayed == null ? 0 : relayed;
+		stats[shard].relayed.add(n);
+		return n;
+	}
+
+	// 샤드별 backlog / lag / events/s 갱신
+	@Scheduled(fixedDelayString = "${outbox.relay.sharded.stats-interval-ms:10000}")
+	public void refreshStats() {
+		if (!running) return;
+
+		long[] depth = new long[shardCount];
+		long[] lagMillis = new long[shardCount];
+		LocalDateTime now = LocalDateTime.now();
+		for (Object[] row : outboxRepository.pendingStatsByShard(shardCount)) {
+			int shard = ((Number) row[0]).intValue();
+			depth[shard] = ((Number) row[1]).longValue();
+			LocalDateTime oldest = toLocalDateTime(row[2]);
+			lagMillis[shard] = oldest == null ? 0L : Math.max(0L, Duration.between(oldest, now).toMillis());
+		}
+
+		long sampledAt = System.nanoTime();
+		for (int shard = 0; shard < shardCount; shard++) {
+			ShardStats s = stats[shard];
+			s.backlog.set(depth[shard]);
+			s.lagMillis.set(lagMillis[shard]);
+			s.sample(sampledAt);
+			if (depth[shard] > 0) {
+				log.debug("[Outbox] shard={} backlog={} lag={}ms rate={}/s",
+					shard, depth[shard], lagMillis[shard], Math.round(s.eventsPerSec));
+			}
+		}
+	}
+
+	private void registerGauges(int shard, ShardStats s) {
+		String tag = String.valueOf(shard);
+		Gauge.builder("outbox.relay.shard.backlog", s, st -> st.backlog.get())
+			.tag("shard", tag)
+			.register(meterRegistry);
+		Gauge.builder("outbox.relay.shard.lag", s, st -> st.lagMillis.get() / 1000d)
+			.tag("shard", tag)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		Gauge.builder("outbox.relay.shard.rate", s, st -> st.eventsPerSec)
+			.tag("shard", tag)
+			.baseUnit("events/s")
+			.register(meterRegistry);
+	}
+
+	private static LocalDateTime toLocalDateTime(Object value) {
+		if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+		if (value instanceof LocalDateTime ldt) return ldt;
+		return null;
+	}
+
+	private static final class ShardStats {
+		private final AtomicLong backlog = new AtomicLong();
+		private final AtomicLong lagMillis = new AtomicLong();
+		private final LongAdder relayed = new LongAdder();
+		private volatile double eventsPerSec;
+		private long lastRelayed;
+		private long lastSampleNanos = System.nanoTime();
+
+		private void sample(long nowNanos) {
+			long total = relayed.sum();
+			long elapsed = nowNanos - lastSampleNanos;
+			eventsPerSec = elapsed > 0 ? (total - lastRelayed) * 1_000_000_000d / elapsed : 0d;
+			lastRelayed = total;
+			lastSampleNanos = nowNanos;
+		}
+	}
+}
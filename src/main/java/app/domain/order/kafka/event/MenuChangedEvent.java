@@ -0,0 +1,8 @@
+package app.domain.order.kafka.event;
+
+import java.util.List;
+import java.util.UUID;
+
+// menu.changed (가격/이름 변경, 삭제). menuIds 가 비어 있으면 전체 무효화
+public record MenuChangedEvent(List<UUID> menuIds) {
+}
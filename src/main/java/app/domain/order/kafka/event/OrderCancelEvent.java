@@ -0,0 +1,5 @@
+package app.domain.order.kafka.event;
+
+// order.canceled (orderCancelEvent)
+public record OrderCancelEvent(Long userId) {
+}
@@ -0,0 +1,8 @@
+package app.domain.order.kafka.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// order.completed
+public record OrderCompletedEvent(UUID storeId, LocalDateTime orderTime, Long totalPrice) {
+}
@@ -0,0 +1,7 @@
+package app.domain.order.kafka.event;
+
+import java.util.UUID;
+
+// OrderStockEvent / orderCanceledEventWithOrderItem 페이로드의 원소
+public record OrderStockItem(UUID menuId, int quantity) {
+}
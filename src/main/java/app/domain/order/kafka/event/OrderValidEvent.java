@@ -0,0 +1,7 @@
+package app.domain.order.kafka.event;
+
+import java.util.UUID;
+
+// order.create_requested : 주문 검증 요청
+public record OrderValidEvent(Long userId, UUID orderId, Long totalPrice) {
+}
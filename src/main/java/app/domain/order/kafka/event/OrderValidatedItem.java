@@ -0,0 +1,5 @@
+package app.domain.order.kafka.event;
+
+// order.validated(success) 페이로드의 원소 : 검증된 주문 상품
+public record OrderValidatedItem(String menuName, Long price, Integer quantity) {
+}
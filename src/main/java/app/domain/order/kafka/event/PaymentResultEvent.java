@@ -0,0 +1,5 @@
+package app.domain.order.kafka.event;
+
+// payment.result
+public record PaymentResultEvent(Long userId) {
+}
@@ -0,0 +1,74 @@
+package app.domain.order.kafka.event;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
+
+/**
+ * 사가 이벤트 JSON 인코딩/디코딩.
+ * 타입별 ObjectReader/ObjectWriter 를 한 번만 만들어 재사용하고, Map 을 거치지 않고 바로 레코드로 읽는다.
+ * 다른 서비스와 주고받는 와이어 포맷(JSON 필드명)은 기존과 같다.
+ */
+@Component
+public class SagaEventCodec {
+
+	private final ObjectMapper objectMapper;
+	private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	public SagaEventCodec(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public String write(Object event) {
+		JavaType type = objectMapper.constructType(event.getClass());
+		try {
+			return writers.computeIfAbsent(type, objectMapper::writerFor).writeValueAsString(event);
+		} catch (IOException e) {
+			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	public <T> String writeList(List<T> events, Class<T> elementType) {
+		JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+		try {
+			return writers.computeIfAbsent(type, objectMapper::writerFor).writeValueAsString(events);
+		} catch (IOException e) {
+			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	public <T> T read(String json, Class<T> type) {
+		return read(json, objectMapper.constructType(type));
+	}
+
+	public <T> List<T> readList(String json, Class<T> elementType) {
+		return read(json, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+	}
+
+	private <T> T read(String json, JavaType type) {
+		try {
+			return reader(type).readValue(json);
+		} catch (IOException e) {
+			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	// 상대 서비스가 필드를 추가해도 깨지지 않도록 모르는 필드는 무시
+	private ObjectReader reader(JavaType type) {
+		return readers.computeIfAbsent(type, t -> objectMapper.readerFor(t)
+			.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+	}
+}
@@ -0,0 +1,5 @@
+package app.domain.order.kafka.event;
+
+// stock.result(fail)
+public record StockResultEvent(String errorMessage) {
+}
@@ -2,6 +2,7 @@ package app.domain.order.kafka.repository;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
@@ -27,6 +28,32 @@ public interface OutboxRepository extends JpaRepository<Outbox, UUID> {
         """, nativeQuery = true)
 	List<Outbox> fetchPendingForUpdate(@Param("limit") int limit);
 
+	// 샤드(aggregateId 해시) 단위 PENDING 레코드 가져오기
+	@Query(value = """
+        SELECT * FROM outbox
+         WHERE status = 'PENDING'
+           AND (hashtext(aggregate_id) & 2147483647) % :shards = :shard
+         ORDER BY created_at
+         FOR UPDATE SKIP LOCKED
+         LIMIT :limit
+        """, nativeQuery = true)
+	List<Outbox> fetchPendingForUpdateByShard(@Param("shards") int shards, @Param("shard") int shard, @Param("limit") int limit);
+
+	// 샤드 소유권 (트랜잭션 종료 시 자동 해제) - 같은 샤드를 여러 파드가 동시에 비우지 않도록
+	@Query(value = "SELECT pg_try_advisory_xact_lock(:namespace, :shard)", nativeQuery = true)
+	boolean tryLockShard(@Param("namespace") int namespace, @Param("shard") int shard);
+
+	// 샤드별 backlog / 가장 오래된 PENDING 시각
+	@Query(value = """
+        SELECT (hashtext(aggregate_id) & 2147483647) % :shards AS shard,
+               count(*) AS depth,
+               min(created_at) AS oldest
+          FROM outbox
+         WHERE status = 'PENDING'
+         GROUP BY 1
+        """, nativeQuery = true)
+	List<Object[]> pendingStatsByShard(@Param("shards") int shards);
+
 	// SENT 처리
 	@Modifying(flushAutomatically = true, clearAutomatically = true)
 	@Query("""
@@ -49,6 +76,28 @@ public interface OutboxRepository extends JpaRepository<Outbox, UUID> {
         """)
 	int markFailed(@Param("id") UUID id, @Param("now") LocalDateTime now, @Param("err") String err);
 
+	// SENT 일괄 처리 (배치 단위 1회 UPDATE)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+        UPDATE Outbox e
+           SET e.status = app.domain.order.kafka.Outbox.Status.SENT,
+               e.updatedAt = :now,
+               e.lastError = null
+         WHERE e.id IN :ids
+        """)
+	int markSentAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+	// FAILED 일괄 처리 (동일 에러 메시지 단위 1회 UPDATE)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+        UPDATE Outbox e
+           SET e.status = app.domain.order.kafka.Outbox.Status.FAILED,
+               e.updatedAt = :now,
+               e.lastError = :err
+         WHERE e.id IN :ids
+        """)
+	int markFailedAll(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now, @Param("err") String err);
+
 	// 오래된 FAILED → PENDING 재큐잉
 	@Modifying
 	@Query("""
@@ -62,6 +111,41 @@ public interface OutboxRepository extends JpaRepository<Outbox, UUID> {
 	int requeueFailed(@Param("now") LocalDateTime now, @Param("retryBefore") LocalDateTime retryBefore);
 
 
+	// 보관 기간이 지난 SENT → outbox_archive 로 이동 (배치 단위)
+	@Modifying
+	@Query(value = """
+        WITH moved AS (
+            DELETE FROM outbox
+             WHERE id IN (
+                    SELECT id FROM outbox
+                     WHERE status = 'SENT'
+                       AND updated_at < :before
+                     ORDER BY updated_at
+                     LIMIT :limit
+                     FOR UPDATE SKIP LOCKED)
+            RETURNING id, aggregate_id, topic, event_type, payload_json, headers, status, last_error,
+                      created_at, updated_at, created_by, updated_by, deleted_at, deleted_by
+        )
+        INSERT INTO outbox_archive (id, aggregate_id, topic, event_type, payload_json, headers, status, last_error,
+                                    created_at, updated_at, created_by, updated_by, deleted_at, deleted_by,
+                                    archived_at)
+        SELECT id, aggregate_id, topic, event_type, payload_json, headers, status, last_error,
+               created_at, updated_at, created_by, updated_by, deleted_at, deleted_by,
+               now()
+          FROM moved
+        """, nativeQuery = true)
+	int archiveSent(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+	// 아카이브 보관 기간이 지난 행 삭제 (배치 단위)
+	@Modifying
+	@Query(value = """
+        DELETE FROM outbox_archive
+         WHERE id IN (
+                SELECT id FROM outbox_archive
+                 WHERE archived_at < :before
+                 LIMIT :limit)
+        """, nativeQuery = true)
+	int purgeArchive(@Param("before") LocalDateTime before, @Param("limit") int limit);
 
 	List<Outbox> findByAggregateId(String aggregateId);
 }
\ No newline at end of file
@@ -31,7 +31,8 @@ public class DltReprocessor {
 		"${topics.payment.result}.DLT",
 		"${topics.stock.result}.DLT",
 		"${topics.order.approve}.DLT"
-	}, groupId = "replayer-from-dlt")
+	}, id = "replayer-from-dlt", groupId = "replayer-from-dlt",
+		concurrency = "${kafka.listener.concurrency.replayer-from-dlt:${kafka.listener.concurrency.default:1}}")
 	public void reprocess(ConsumerRecord<String, String> rec) {
 
 		var origTopicHeader = rec.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
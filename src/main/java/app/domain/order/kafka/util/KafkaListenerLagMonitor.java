@@ -0,0 +1,156 @@
+package app.domain.order.kafka.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리스너 id 별 컨슈머 그룹 lag 과 커밋 처리율을 게이지로 노출한다.
+ * (레코드 처리 시간은 spring-kafka 의 spring.kafka.listener 타이머가 리스너 id 별로 기록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.listener.lag.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaListenerLagMonitor implements DisposableBean {
+
+	private final KafkaListenerEndpointRegistry registry;
+	private final KafkaAdmin kafkaAdmin;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, ListenerStats> stats = new ConcurrentHashMap<>();
+	private volatile AdminClient adminClient;
+
+	@Value("${kafka.listener.lag.timeout-ms:5000}")
+	private long timeoutMs;
+
+	@Scheduled(fixedDelayString = "${kafka.listener.lag.interval-ms:30000}")
+	public void refresh() {
+		for (MessageListenerContainer container : registry.getListenerContainers()) {
+			String listenerId = container.getListenerId();
+			String groupId = container.getGroupId();
+			if (listenerId == null || groupId == null) continue;
+			try {
+				sample(listenerId, groupId, topicsOf(container));
+			} catch (Exception e) {
+				log.warn("[Kafka] lag sample failed listener={} err={}", listenerId, e.toString());
+			}
+		}
+	}
+
+	private void sample(String listenerId, String groupId, Set<String> topics) throws Exception {
+		Map<TopicPartition, OffsetAndMetadata> committed = admin().listConsumerGroupOffsets(groupId)
+			.partitionsToOffsetAndMetadata()
+			.get(timeoutMs, TimeUnit.MILLISECONDS);
+
+		Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+		committed.forEach((tp, om) -> {
+			if (om != null && (topics.isEmpty() || topics.contains(tp.topic()))) {
+				request.put(tp, OffsetSpec.latest());
+			}
+		});
+		Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> ends = request.isEmpty()
+			? Map.of()
+			: admin().listOffsets(request).all().get(timeoutMs, TimeUnit.MILLISECONDS);
+
+		long lag = 0L;
+		long maxLag = 0L;
+		long committedSum = 0L;
+		for (var e : ends.entrySet()) {
+			long pos = committed.get(e.getKey()).offset();
+			long partitionLag = Math.max(0L, e.getValue().offset() - pos);
+			lag += partitionLag;
+			maxLag = Math.max(maxLag, partitionLag);
+			committedSum += pos;
+		}
+
+		ListenerStats s = stats.computeIfAbsent(listenerId, this::register);
+		s.update(lag, maxLag, committedSum, System.nanoTime());
+		if (lag > 0) {
+			log.debug("[Kafka] listener={} lag={} maxPartitionLag={} rate={}/s",
+				listenerId, lag, maxLag, Math.round(s.recordsPerSec));
+		}
+	}
+
+	private ListenerStats register(String listenerId) {
+		ListenerStats s = new ListenerStats();
+		Gauge.builder("kafka.listener.lag", s, st -> st.lag)
+			.tag("listener", listenerId)
+			.description("Sum of consumer group lag over the listener's partitions")
+			.register(meterRegistry);
+		Gauge.builder("kafka.listener.lag.max", s, st -> st.maxLag)
+			.tag("listener", listenerId)
+			.register(meterRegistry);
+		Gauge.builder("kafka.listener.throughput", s, st -> st.recordsPerSec)
+			.tag("listener", listenerId)
+			.baseUnit("records/s")
+			.register(meterRegistry);
+		return s;
+	}
+
+	private static Set<String> topicsOf(MessageListenerContainer container) {
+		String[] topics = container.getContainerProperties().getTopics();
+		return topics == null ? Set.of() : Arrays.stream(topics).collect(Collectors.toSet());
+	}
+
+	private AdminClient admin() {
+		AdminClient client = adminClient;
+		if (client == null) {
+			synchronized (this) {
+				if (adminClient == null) {
+					adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+				}
+				client = adminClient;
+			}
+		}
+		return client;
+	}
+
+	@Override
+	public void destroy() {
+		if (adminClient != null) {
+			adminClient.close();
+		}
+	}
+
+	private static final class ListenerStats {
+		private volatile long lag;
+		private volatile long maxLag;
+		private volatile double recordsPerSec;
+		private long lastCommitted = -1L;
+		private long lastSampleNanos;
+
+		private synchronized void update(long lag, long maxLag, long committedSum, long nowNanos) {
+			this.lag = lag;
+			this.maxLag = maxLag;
+			if (lastCommitted >= 0 && nowNanos > lastSampleNanos) {
+				recordsPerSec = Math.max(0L, committedSum - lastCommitted) * 1_000_000_000d / (nowNanos - lastSampleNanos);
+			}
+			lastCommitted = committedSum;
+			lastSampleNanos = nowNanos;
+		}
+	}
+}
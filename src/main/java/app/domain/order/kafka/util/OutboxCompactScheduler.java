@@ -0,0 +1,62 @@
+package app.domain.order.kafka.util;
+
+import java.time.Duration;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class OutboxCompactScheduler {
+    private final OutboxCompactWorker worker;
+    private final Counter archivedCounter;
+    private final Counter purgedCounter;
+
+    @Value("${outbox.retention.sent-retention:PT1H}")
+    private Duration sentRetention;
+
+    @Value("${outbox.retention.archive-retention:P14D}")
+    private Duration archiveRetention;
+
+    @Value("${outbox.retention.batch-size:1000}")
+    private int batchSize;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (DB 부하 상한)
+    @Value("${outbox.retention.max-batches:20}")
+    private int maxBatches;
+
+    public OutboxCompactScheduler(OutboxCompactWorker worker, MeterRegistry meterRegistry) {
+        this.worker = worker;
+        this.archivedCounter = Counter.builder("outbox.retention.rows").tag("action", "archived").register(meterRegistry);
+        this.purgedCounter = Counter.builder("outbox.retention.rows").tag("action", "purged").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.interval:60s}")
+    public void compactScheduler() {
+        long start = System.currentTimeMillis();
+        int archived = drain(() -> worker.archiveOnce(sentRetention, batchSize));
+        int purged = drain(() -> worker.purgeOnce(archiveRetention, batchSize));
+        archivedCounter.increment(archived);
+        purgedCounter.increment(purged);
+        if (archived > 0 || purged > 0) {
+            log.info("[Outbox] compacted: archived SENT={} purged archive={} took={}ms",
+                archived, purged, System.currentTimeMillis() - start);
+        }
+    }
+
+    private int drain(IntSupplier step) {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int n = step.getAsInt();
+            total += n;
+            if (n < batchSize) break;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,28 @@
+package app.domain.order.kafka.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.order.kafka.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxCompactWorker {
+    private final OutboxRepository outboxRepository;
+
+    @Transactional
+    public int archiveOnce(Duration sentRetention, int batchSize) {
+        var before = LocalDateTime.now().minus(sentRetention);
+        return outboxRepository.archiveSent(before, batchSize);
+    }
+
+    @Transactional
+    public int purgeOnce(Duration archiveRetention, int batchSize) {
+        var before = LocalDateTime.now().minus(archiveRetention);
+        return outboxRepository.purgeArchive(before, batchSize);
+    }
+}
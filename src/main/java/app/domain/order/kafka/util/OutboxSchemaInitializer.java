@@ -0,0 +1,91 @@
+package app.domain.order.kafka.util;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import app.global.config.SchemaInitializer;
+
+/**
+ * 추가된 컬럼(headers)과 outbox_archive 테이블, JPA @Index 로 표현할 수 없는 부분 인덱스를 준비한다.
+ * Outbox 엔티티가 headers 를 매핑하므로 컬럼/테이블은 relay/리스너가 outbox 를 읽기 전에 끝나야 한다.
+ * 인덱스는 주문 생성(outbox INSERT)을 막지 않도록 기동 뒤 CONCURRENTLY 로 만든다 (SchemaInitializer 참고).
+ */
+@Component
+public class OutboxSchemaInitializer extends SchemaInitializer {
+
+    private static final List<String> DDL = List.of(
+        addColumnIfMissing("outbox", "headers", "text"),
+        // headers 컬럼 이전에 쌓인 미발행 취소 이벤트의 userId 헤더 채우기
+        """
+        UPDATE outbox o
+           SET headers = json_build_object('userId', p.user_id::text)::text
+          FROM p_orders p
+         WHERE o.event_type = 'orderCanceledEventWithOrderItem'
+           AND o.status <> 'SENT'
+           AND o.headers IS NULL
+           AND p.user_id IS NOT NULL
+           AND p.orders_id::text = o.aggregate_id
+        """,
+        """
+        CREATE TABLE IF NOT EXISTS outbox_archive (
+            id           uuid PRIMARY KEY,
+            aggregate_id varchar(64)  NOT NULL,
+            topic        varchar(128) NOT NULL,
+            event_type   varchar(128) NOT NULL,
+            payload_json text         NOT NULL,
+            headers      text,
+            status       varchar(16)  NOT NULL,
+            last_error   varchar(512),
+            created_at   timestamp(6) NOT NULL,
+            updated_at   timestamp(6),
+            created_by   bigint,
+            updated_by   bigint,
+            deleted_at   timestamp(6),
+            deleted_by   bigint,
+            archived_at  timestamp(6) NOT NULL
+        )
+        """,
+        addColumnIfMissing("outbox_archive", "headers", "text")
+    );
+
+    private static final List<String> INDEXES = List.of(
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_outbox_pending_created_at ON outbox (created_at) WHERE status = 'PENDING'",
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_outbox_sent_updated_at ON outbox (updated_at) WHERE status = 'SENT'",
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_outbox_aggregate_id ON outbox (aggregate_id)",
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_outbox_archive_aggregate_id ON outbox_archive (aggregate_id)",
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_outbox_archive_archived_at ON outbox_archive (archived_at)"
+    );
+
+    private final boolean enabled;
+
+    public OutboxSchemaInitializer(
+        JdbcTemplate jdbcTemplate,
+        @Value("${outbox.retention.init-schema:true}") boolean enabled
+    ) {
+        super(jdbcTemplate);
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected String name() {
+        return "Outbox";
+    }
+
+    @Override
+    protected boolean enabled() {
+        return enabled;
+    }
+
+    @Override
+    protected List<String> statements() {
+        return DDL;
+    }
+
+    @Override
+    protected List<String> indexes() {
+        return INDEXES;
+    }
+}
@@ -0,0 +1,37 @@
+package app.domain.order.model.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.status.OrderErrorStatus;
+
+// 키셋 페이지 커서: 마지막으로 본 주문의 (createdAt, ordersId). 클라이언트에는 base64url 문자열로만 노출
+public record OrderCursor(LocalDateTime createdAt, UUID ordersId) {
+
+	public static OrderCursor of(Orders order) {
+		return new OrderCursor(order.getCreatedAt(), order.getOrdersId());
+	}
+
+	public String encode() {
+		String raw = createdAt + "|" + ordersId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// null/빈 값은 첫 페이지
+	public static OrderCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int sep = raw.indexOf('|');
+			return new OrderCursor(LocalDateTime.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+		} catch (RuntimeException e) {
+			throw new GeneralException(OrderErrorStatus.INVALID_ORDER_CURSOR);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package app.domain.order.model.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import app.domain.order.model.dto.request.OrderCursor;
+import app.domain.order.model.entity.Orders;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+	private List<T> content;
+	private String nextCursor; // 마지막 페이지면 null
+	private boolean hasNext;
+
+	// rows 는 size + 1 개까지 조회한 결과. 넘친 한 건으로 다음 페이지 여부를 판단한다
+	public static <T> CursorPageResponse<T> of(List<Orders> rows, int size, Function<List<Orders>, List<T>> mapper) {
+		boolean hasNext = rows.size() > size;
+		List<Orders> page = hasNext ? rows.subList(0, size) : rows;
+		String next = hasNext ? OrderCursor.of(page.get(page.size() - 1)).encode() : null;
+		return new CursorPageResponse<>(mapper.apply(page), next, hasNext);
+	}
+}
@@ -0,0 +1,20 @@
+package app.domain.order.model.dto.response;
+
+import java.time.LocalDateTime;
+
+import app.domain.order.model.entity.OrderStatusHistory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusHistoryResponse {
+	private String state;
+	private LocalDateTime changedAt;
+
+	public static OrderStatusHistoryResponse from(OrderStatusHistory history) {
+		return new OrderStatusHistoryResponse(history.getState(), history.getChangedAt());
+	}
+}
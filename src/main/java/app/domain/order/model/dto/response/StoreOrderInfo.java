@@ -3,6 +3,7 @@ package app.domain.order.model.dto.response;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import app.domain.order.model.entity.enums.OrderStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,4 +20,10 @@ public class StoreOrderInfo {
     private Long totalPrice;
     private String orderStatus;
     private LocalDateTime orderedAt;
+
+    // JPQL 생성자 프로젝션용 (엔티티를 거치지 않고 바로 DTO 로 읽는다)
+    public StoreOrderInfo(UUID orderId, UUID storeId, Long customerId, Long totalPrice, OrderStatus orderStatus,
+        LocalDateTime orderedAt) {
+        this(orderId, storeId, customerId, totalPrice, String.valueOf(orderStatus), orderedAt);
+    }
 }
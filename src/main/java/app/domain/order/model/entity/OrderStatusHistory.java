@@ -0,0 +1,54 @@
+package app.domain.order.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 상태 이력 (INSERT 전용). 테이블/시퀀스/인덱스는 OrderSchemaInitializer 가 만든다
+// id 는 시퀀스를 50 개씩 미리 받아 쓰므로 사가 배치 처리의 INSERT 가 jdbc batch 로 묶인다 (IDENTITY 는 행마다 즉시 INSERT)
+@Entity
+@Immutable
+@Table(name = "p_order_status_history", indexes = {
+	@Index(name = "ix_order_status_history_order_changed", columnList = "orders_id, changed_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatusHistory {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_status_history_seq")
+	@SequenceGenerator(name = "order_status_history_seq", sequenceName = "p_order_status_history_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false)
+	private UUID ordersId;
+
+	@Column(nullable = false, length = 50)
+	private String state;
+
+	@Column(nullable = false)
+	private LocalDateTime changedAt;
+
+	private OrderStatusHistory(UUID ordersId, String state, LocalDateTime changedAt) {
+		this.ordersId = ordersId;
+		this.state = state;
+		this.changedAt = changedAt;
+	}
+
+	public static OrderStatusHistory of(UUID ordersId, String state) {
+		return new OrderStatusHistory(ordersId, state, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,79 @@
+package app.domain.order.model.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import app.global.config.SchemaInitializer;
+
+/**
+ * 주문 상태 이력 테이블과 Orders 의 @Index(키셋 페이지용 복합 인덱스)를 만든다. ddl-auto 가 none 이므로 IF NOT EXISTS 로 멱등하게 실행한다.
+ * 상태 변경마다 p_order_status_history 에 INSERT 하므로 테이블은 웹/Kafka 계층이 뜨기 전에 끝나야 한다.
+ * p_orders 전체를 훑는 인덱스 빌드는 기동 경로에서 빼 기동 뒤 CONCURRENTLY 로 만든다 (SchemaInitializer 참고).
+ */
+@Component
+public class OrderSchemaInitializer extends SchemaInitializer {
+
+	private static final List<String> DDL = List.of(
+		"""
+		CREATE TABLE IF NOT EXISTS p_order_status_history (
+		    id         bigint PRIMARY KEY,
+		    orders_id  uuid         NOT NULL,
+		    state      varchar(50)  NOT NULL,
+		    changed_at timestamp(6) NOT NULL
+		)
+		""",
+		// OrderStatusHistory 의 @SequenceGenerator(allocationSize = 50) 와 증가 폭을 맞춘다
+		"CREATE SEQUENCE IF NOT EXISTS p_order_status_history_seq INCREMENT BY 50",
+		// bigserial 로 만들어진 기존 테이블: 이미 쓰인 id 뒤에서 시작하도록 시퀀스를 앞으로만 옮긴다
+		"""
+		DO $$
+		DECLARE max_id bigint;
+		BEGIN
+		    SELECT COALESCE(MAX(id), 0) INTO max_id FROM p_order_status_history;
+		    IF (SELECT last_value FROM p_order_status_history_seq) < max_id THEN
+		        PERFORM setval('p_order_status_history_seq', max_id);
+		    END IF;
+		END $$
+		"""
+	);
+
+	private static final List<String> INDEXES = List.of(
+		"CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_orders_user_created_id ON p_orders (user_id, created_at, orders_id)",
+		"CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_orders_store_created_id ON p_orders (store_id, created_at, orders_id)",
+		"CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_order_status_history_order_changed"
+			+ " ON p_order_status_history (orders_id, changed_at, id)"
+	);
+
+	private final boolean enabled;
+
+	public OrderSchemaInitializer(
+		JdbcTemplate jdbcTemplate,
+		@Value("${order.schema.init:true}") boolean enabled
+	) {
+		super(jdbcTemplate);
+		this.enabled = enabled;
+	}
+
+	@Override
+	protected String name() {
+		return "Order";
+	}
+
+	@Override
+	protected boolean enabled() {
+		return enabled;
+	}
+
+	@Override
+	protected List<String> statements() {
+		return DDL;
+	}
+
+	@Override
+	protected List<String> indexes() {
+		return INDEXES;
+	}
+}
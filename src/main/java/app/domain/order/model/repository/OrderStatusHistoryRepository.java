@@ -0,0 +1,27 @@
+package app.domain.order.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.order.model.entity.OrderStatusHistory;
+
+@Repository
+public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusHistory, Long> {
+
+	// [from, to) 구간, 기록된 순서대로. (orders_id, changed_at, id) 인덱스 범위 스캔
+	@Query("""
+		select h from OrderStatusHistory h
+		 where h.ordersId = :ordersId
+		   and h.changedAt >= :from
+		   and h.changedAt < :to
+		 order by h.changedAt asc, h.id asc
+		""")
+	List<OrderStatusHistory> findRange(@Param("ordersId") UUID ordersId, @Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to);
+}
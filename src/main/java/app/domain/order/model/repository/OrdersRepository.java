@@ -1,14 +1,24 @@
 package app.domain.order.model.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import app.domain.order.model.dto.request.OrderCursor;
+import app.domain.order.model.dto.response.StoreOrderInfo;
 import app.domain.order.model.entity.Orders;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface OrdersRepository extends JpaRepository<Orders, UUID> {
@@ -17,4 +27,73 @@ public interface OrdersRepository extends JpaRepository<Orders, UUID> {
 	List<Orders> findByUserId(Long userId);
 
 	List<Orders> findByStoreId(UUID storeId);
+
+	// 키셋 페이지 (createdAt desc, ordersId desc). limit 은 PageRequest.of(0, size + 1) 로 넘겨 count 쿼리 없이 조회
+	// 커서 조건은 행 값 비교 (created_at, orders_id) < (?, ?) 로 써야 PostgreSQL 이 (user_id|store_id, created_at, orders_id)
+	// 인덱스의 Index Cond 로 바로 찾아 들어간다. OR 로 풀어 쓰면 user_id 까지만 인덱스로 좁히고 나머지는 Filter 로 걸러진다
+	default List<Orders> findCustomerPage(Long userId, OrderCursor cursor, Pageable limit) {
+		return cursor == null
+			? findByUserIdOrderByCreatedAtDescOrdersIdDesc(userId, limit)
+			: findByUserIdAfter(userId, cursor.createdAt(), cursor.ordersId(), limit);
+	}
+
+	default List<Orders> findDeliveryOrderPage(Long userId, OrderCursor cursor, Pageable limit) {
+		return cursor == null
+			? findByUserIdAndDeliveryAddressIsNotNullOrderByCreatedAtDescOrdersIdDesc(userId, limit)
+			: findDeliveryOrdersByUserIdAfter(userId, cursor.createdAt(), cursor.ordersId(), limit);
+	}
+
+	default List<Orders> findStorePage(UUID storeId, OrderCursor cursor, Pageable limit) {
+		return cursor == null
+			? findByStoreIdOrderByCreatedAtDescOrdersIdDesc(storeId, limit)
+			: findByStoreIdAfter(storeId, cursor.createdAt(), cursor.ordersId(), limit);
+	}
+
+	List<Orders> findByUserIdOrderByCreatedAtDescOrdersIdDesc(Long userId, Pageable limit);
+
+	List<Orders> findByUserIdAndDeliveryAddressIsNotNullOrderByCreatedAtDescOrdersIdDesc(Long userId, Pageable limit);
+
+	List<Orders> findByStoreIdOrderByCreatedAtDescOrdersIdDesc(UUID storeId, Pageable limit);
+
+	@Query("""
+		select o from Orders o
+		 where o.userId = :userId
+		   and (o.createdAt, o.ordersId) < (:createdAt, :ordersId)
+		 order by o.createdAt desc, o.ordersId desc
+		""")
+	List<Orders> findByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("ordersId") UUID ordersId, Pageable limit);
+
+	@Query("""
+		select o from Orders o
+		 where o.userId = :userId
+		   and o.deliveryAddress is not null
+		   and (o.createdAt, o.ordersId) < (:createdAt, :ordersId)
+		 order by o.createdAt desc, o.ordersId desc
+		""")
+	List<Orders> findDeliveryOrdersByUserIdAfter(@Param("userId") Long userId,
+		@Param("createdAt") LocalDateTime createdAt, @Param("ordersId") UUID ordersId, Pageable limit);
+
+	@Query("""
+		select o from Orders o
+		 where o.storeId = :storeId
+		   and (o.createdAt, o.ordersId) < (:createdAt, :ordersId)
+		 order by o.createdAt desc, o.ordersId desc
+		""")
+	List<Orders> findByStoreIdAfter(@Param("storeId") UUID storeId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("ordersId") UUID ordersId, Pageable limit);
+
+	// 매장 주문 내보내기: DTO 로 바로 프로젝션하고 fetch size 단위로 커서를 읽는다 (호출자 트랜잭션 안에서 소비 후 close)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("""
+		select new app.domain.order.model.dto.response.StoreOrderInfo(
+		       o.ordersId, o.storeId, o.userId, o.totalPrice, o.orderStatus, o.createdAt)
+		  from Orders o
+		 where o.storeId = :storeId
+		   and o.createdAt >= :from
+		   and o.createdAt < :to
+		 order by o.createdAt desc, o.ordersId desc
+		""")
+	Stream<StoreOrderInfo> streamStoreOrderInfo(@Param("storeId") UUID storeId, @Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to);
 }
@@ -0,0 +1,105 @@
+package app.domain.order.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.domain.order.client.InternalStoreClient;
+import app.domain.order.model.dto.response.MenuInfoResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 주문 생성 시 가격 검증용 메뉴 정보(이름/가격) 캐시.
+ * 캐시에 없는 메뉴만 매장 서비스에 한 번에 조회한다. 가격 변경은 menu.changed 이벤트 또는 TTL 로 반영되고,
+ * 그 사이 가격이 맞지 않으면 주문 쪽에서 refresh 로 다시 읽어 확인한다.
+ */
+@Component
+public class MenuInfoCache {
+
+	private final InternalStoreClient internalStoreClient;
+	private final Cache<UUID, CachedMenu> cache;
+	private final DistributionSummary ageSummary;
+
+	@Value("${menu.cache.enabled:true}")
+	private boolean enabled;
+
+	public MenuInfoCache(
+		InternalStoreClient internalStoreClient,
+		MeterRegistry meterRegistry,
+		@Value("${menu.cache.max-size:10000}") long maxSize,
+		@Value("${menu.cache.ttl:PT5M}") Duration ttl
+	) {
+		this.internalStoreClient = internalStoreClient;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "menu.info");
+		// 캐시 적중 시 사용된 값의 나이 (가격 정보가 얼마나 오래된 것인지)
+		this.ageSummary = DistributionSummary.builder("menu.info.cache.age")
+			.baseUnit("milliseconds")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	// 요청한 메뉴 중 찾은 것만 돌려준다. 매장 서비스 호출 예외는 그대로 전파
+	public Map<UUID, MenuInfoResponse> getAll(List<UUID> menuIds) {
+		Map<UUID, MenuInfoResponse> result = new HashMap<>();
+		List<UUID> missing = new ArrayList<>();
+		long now = System.currentTimeMillis();
+		for (UUID menuId : menuIds) {
+			CachedMenu cached = enabled ? cache.getIfPresent(menuId) : null;
+			if (cached == null) {
+				missing.add(menuId);
+			} else {
+				ageSummary.record(now - cached.fetchedAt());
+				result.put(menuId, cached.menu());
+			}
+		}
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		ApiResponse<List<MenuInfoResponse>> response = internalStoreClient.getMenuInfoList(missing);
+		if (response != null && response.result() != null) {
+			for (MenuInfoResponse menu : response.result()) {
+				result.put(menu.getMenuId(), menu);
+				if (enabled) {
+					cache.put(menu.getMenuId(), new CachedMenu(menu, now));
+				}
+			}
+		}
+		return result;
+	}
+
+	// 캐시를 거치지 않고 매장 서비스에서 다시 읽어 캐시를 갱신한다 (가격 불일치 재확인용)
+	public Map<UUID, MenuInfoResponse> refresh(List<UUID> menuIds) {
+		cache.invalidateAll(menuIds);
+		return getAll(menuIds);
+	}
+
+	public void invalidate(Collection<UUID> menuIds) {
+		cache.invalidateAll(menuIds);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	private record CachedMenu(MenuInfoResponse menu, long fetchedAt) {
+	}
+}
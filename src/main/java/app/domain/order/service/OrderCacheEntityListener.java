@@ -0,0 +1,52 @@
+package app.domain.order.service;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import app.domain.order.model.entity.Orders;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * p_orders 행 변경(OrderStatusRecorder 의 상태 변경, disableRefund 등 dirty checking 으로 나가는 모든 UPDATE)을 감지해
+ * OrderDetailCache 를 비운다. 롤백된 변경으로 캐시를 지우지 않도록 커밋 이후에 실행한다.
+ * 상태 이력은 p_order_status_history 에 INSERT 만 하고(내부 API addHistory 포함) 캐시된 응답에 들어가지 않으므로 여기를 거치지 않는다.
+ * Hibernate 가 Spring 빈 컨테이너로 생성하므로 생성자 주입을 받는다 (EntityManagerFactory 초기화 순서 때문에 지연 조회).
+ */
+public class OrderCacheEntityListener {
+
+	private final ObjectProvider<OrderDetailCache> cache;
+
+	public OrderCacheEntityListener(ObjectProvider<OrderDetailCache> cache) {
+		this.cache = cache;
+	}
+
+	@PostUpdate
+	@PostRemove
+	public void onChanged(Orders order) {
+		UUID orderId = order.getOrdersId();
+		if (orderId == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(orderId);
+				}
+			});
+		} else {
+			evict(orderId);
+		}
+	}
+
+	private void evict(UUID orderId) {
+		OrderDetailCache c = cache.getIfAvailable();
+		if (c != null) {
+			c.evict(orderId);
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package app.domain.order.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.dto.response.OrderInfoResponse;
+import app.global.cache.LocalInvalidationChannel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 상세(OrderDetailResponse)/내부 조회(OrderInfoResponse) 2단 캐시: 파드 로컬 Caffeine → Redis → DB.
+ * 주문이 바뀌면 OrderCacheEntityListener 가 커밋 후 evict 를 부르고, orders:invalidate 채널로 다른 파드의 로컬 사본도 지운다.
+ * Redis 값은 주문별 버전 키와 함께 쓴다: 조회 전에 읽은 버전이 그 사이 무효화로 바뀌었으면 DB 에서 읽은 이전 값을 쓰지 않는다.
+ * 놓친 무효화는 각 계층의 expire-after-write 로 상한을 둔다.
+ */
+@Slf4j
+@Component
+public class OrderDetailCache {
+
+	static final String INVALIDATE_CHANNEL = "orders:invalidate";
+	private static final String DETAIL_PREFIX = "order:detail:";
+	private static final String INFO_PREFIX = "order:info:";
+	private static final String VERSION_PREFIX = "order:ver:";
+	// 버전 키 보존 시간. DB 조회 한 번보다 충분히 길어야 만료로 버전이 되돌아가는 일이 없다
+	private static final Duration VERSION_TTL = Duration.ofMinutes(10);
+
+	private static final RedisScript<Long> PUT = RedisScript.of(new ClassPathResource("redis/order_cache_put.lua"), Long.class);
+	private static final RedisScript<Long> EVICT = RedisScript.of(new ClassPathResource("redis/order_cache_evict.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Tier<OrderDetailResponse> detail;
+	private final Tier<OrderInfoResponse> info;
+	private final LocalInvalidationChannel<UUID> invalidation;
+
+	@Value("${order.cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${order.cache.redis-ttl:PT1M}")
+	private Duration redisTtl;
+
+	public OrderDetailCache(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${order.cache.max-size:20000}") long maxSize,
+		@Value("${order.cache.local-ttl:PT10S}") Duration localTtl
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.detail = new Tier<>("order.detail", DETAIL_PREFIX, OrderDetailResponse.class, maxSize, localTtl, meterRegistry);
+		this.info = new Tier<>("order.info", INFO_PREFIX, OrderInfoResponse.class, maxSize, localTtl, meterRegistry);
+		this.invalidation = new LocalInvalidationChannel<>(INVALIDATE_CHANNEL, redisTemplate, listenerContainer,
+			UUID::fromString, this::evictLocal);
+	}
+
+	public OrderDetailResponse getDetail(UUID orderId, Supplier<OrderDetailResponse> loader) {
+		return get(detail, orderId, loader);
+	}
+
+	public OrderInfoResponse getInfo(UUID orderId, Supplier<OrderInfoResponse> loader) {
+		return get(info, orderId, loader);
+	}
+
+	// 주문 변경 커밋 후 호출: Redis 값을 지우고 버전을 올린 뒤, 로컬을 지우고 다른 파드에 알린다
+	public void evict(UUID orderId) {
+		try {
+			redisTemplate.execute(EVICT, List.of(key(DETAIL_PREFIX, orderId), key(INFO_PREFIX, orderId),
+				key(VERSION_PREFIX, orderId)), String.valueOf(VERSION_TTL.toMillis()));
+		} catch (Exception e) {
+			log.warn("[Order] cache invalidation failed orderId={} err={}", orderId, e.toString());
+		}
+		invalidation.invalidate(orderId);
+	}
+
+	private <T> T get(Tier<T> tier, UUID orderId, Supplier<T> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+		T cached = tier.local.getIfPresent(orderId);
+		if (cached != null) {
+			return cached;
+		}
+		long gen = invalidation.generation();
+		RedisRead<T> read = readRedis(tier, orderId);
+		T value = read.value();
+		if (value == null) {
+			tier.redisMiss.increment();
+			// 조회 실패(주문 없음 등) 예외는 캐시하지 않고 그대로 전파
+			value = loader.get();
+			if (read.version() != null) {
+				writeRedis(tier, orderId, read.version(), value);
+			}
+		} else {
+			tier.redisHit.increment();
+		}
+		if (invalidation.unchangedSince(gen)) {
+			tier.local.put(orderId, value);
+		}
+		return value;
+	}
+
+	// 값과 버전을 한 번에 읽는다 (같은 해시 태그라 클러스터에서도 한 노드). Redis 장애면 version 이 null 이라 쓰지 않는다
+	private <T> RedisRead<T> readRedis(Tier<T> tier, UUID orderId) {
+		String key = key(tier.prefix, orderId);
+		try {
+			List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, key(VERSION_PREFIX, orderId)));
+			if (values == null) {
+				return new RedisRead<>(null, null);
+			}
+			String json = values.get(0);
+			String version = values.get(1) == null ? "" : values.get(1);
+			return new RedisRead<>(readValue(tier, key, json), version);
+		} catch (Exception e) {
+			log.debug("[Order] cache read failed key={} err={}", key, e.toString());
+			return new RedisRead<>(null, null);
+		}
+	}
+
+	// 이전 형식 값은 미스로 처리하고 DB 에서 다시 읽는다
+	private <T> T readValue(Tier<T> tier, String key, String json) {
+		if (json == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(json, tier.type);
+		} catch (Exception e) {
+			log.debug("[Order] cache value unreadable key={} err={}", key, e.toString());
+			return null;
+		}
+	}
+
+	private <T> void writeRedis(Tier<T> tier, UUID orderId, String version, T value) {
+		String key = key(tier.prefix, orderId);
+		try {
+			redisTemplate.execute(PUT, List.of(key, key(VERSION_PREFIX, orderId)), version,
+				objectMapper.writeValueAsString(value), String.valueOf(redisTtl.toMillis()));
+		} catch (Exception e) {
+			log.warn("[Order] cache write failed key={} err={}", key, e.toString());
+		}
+	}
+
+	// 값/버전 키가 같은 슬롯에 놓이도록 orderId 를 해시 태그로 감싼다
+	private static String key(String prefix, UUID orderId) {
+		return prefix + "{" + orderId + "}";
+	}
+
+	private void evictLocal(UUID orderId) {
+		detail.local.invalidate(orderId);
+		info.local.invalidate(orderId);
+	}
+
+	private record RedisRead<T>(T value, String version) {
+	}
+
+	private static final class Tier<T> {
+		private final String prefix;
+		private final Class<T> type;
+		private final Cache<UUID, T> local;
+		private final Counter redisHit;
+		private final Counter redisMiss;
+
+		private Tier(String name, String prefix, Class<T> type, long maxSize, Duration localTtl,
+			MeterRegistry meterRegistry) {
+			this.prefix = prefix;
+			this.type = type;
+			this.local = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(localTtl)
+				.recordStats()
+				.build();
+			CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+			// 로컬 미스 중 Redis 적중/미스 (로컬 적중률은 CaffeineCacheMetrics 의 cache.gets)
+			this.redisHit = Counter.builder("order.cache.redis").tag("cache", name).tag("result", "hit")
+				.register(meterRegistry);
+			this.redisMiss = Counter.builder("order.cache.redis").tag("cache", name).tag("result", "miss")
+				.register(meterRegistry);
+		}
+	}
+}
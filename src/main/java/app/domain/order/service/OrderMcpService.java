@@ -36,14 +36,16 @@ public class OrderMcpService {
 
 	private final OrdersRepository ordersRepository;
 	private final OrderItemRepository orderItemRepository;
+	private final OrderStatusRecorder orderStatusRecorder;
 	private final CartMcpService cartMcpService;
 	private final OrderDelayService orderDelayService;
 	private final InternalStoreClient internalStoreClient;
+	private final MenuInfoCache menuInfoCache;
 
 	@Transactional
 	public UUID createOrder(Long userId, CreateOrderRequest request) {
 
-		List<RedisCartItem> cartItems = cartMcpService.getCartFromCache(userId);
+		List<RedisCartItem> cartItems = cartMcpService.getCartForOrder(userId);
 		if (cartItems.isEmpty()) {
 			throw new GeneralException(ErrorStatus.CART_NOT_FOUND);
 		}
@@ -60,23 +62,17 @@ public class OrderMcpService {
 			.map(RedisCartItem::getMenuId)
 			.toList();
 
-		ApiResponse<List<MenuInfoResponse>> menuInfoResponse;
-		try {
-			menuInfoResponse=internalStoreClient.getMenuInfoList(menuIds);
-		} catch (HttpClientErrorException | HttpServerErrorException e){
-			log.error("Store Service Error: {}", e.getResponseBodyAsString());
-			throw new GeneralException(ErrorStatus.MENU_NOT_FOUND);
-		}
-
-		List<MenuInfoResponse> menuInfoResponseList=menuInfoResponse.result();
-		Map<UUID, MenuInfoResponse> menuMap = menuInfoResponseList.stream()
-			.collect(java.util.stream.Collectors.toMap(MenuInfoResponse::getMenuId, menu -> menu));
-
-		Long calculatedTotalPrice = cartItems.stream()
-			.mapToLong(item -> menuMap.get(item.getMenuId()).getPrice() * item.getQuantity())
-			.sum();
-		if (!calculatedTotalPrice.equals(request.getTotalPrice())) {
-			throw new GeneralException(OrderErrorStatus.ORDER_PRICE_MISMATCH);
+		// 캐시에 없는 메뉴만 매장 서비스에 조회
+		Map<UUID, MenuInfoResponse> cached = fetchMenus(menuIds, false);
+		Map<UUID, MenuInfoResponse> menuMap;
+		if (totalPrice(cartItems, cached).equals(request.getTotalPrice())) {
+			menuMap = cached;
+		} else {
+			// 캐시된 가격이 오래됐을 수 있으므로 매장 서비스에서 다시 읽어 한 번 더 확인한다
+			menuMap = fetchMenus(menuIds, true);
+			if (!totalPrice(cartItems, menuMap).equals(request.getTotalPrice())) {
+				throw new GeneralException(OrderErrorStatus.ORDER_PRICE_MISMATCH);
+			}
 		}
 
 		ApiResponse<Boolean> stockCheckResponse;
@@ -107,6 +103,7 @@ public class OrderMcpService {
 			.build();
 
 		Orders savedOrder = ordersRepository.save(order);
+		orderStatusRecorder.created(savedOrder);
 
 		for (RedisCartItem cartItem : cartItems) {
 			MenuInfoResponse menu = menuMap.get(cartItem.getMenuId());
@@ -125,5 +122,25 @@ public class OrderMcpService {
 		return savedOrder.getOrdersId();
 	}
 
+	private Map<UUID, MenuInfoResponse> fetchMenus(List<UUID> menuIds, boolean fresh) {
+		Map<UUID, MenuInfoResponse> menuMap;
+		try {
+			menuMap = fresh ? menuInfoCache.refresh(menuIds) : menuInfoCache.getAll(menuIds);
+		} catch (HttpClientErrorException | HttpServerErrorException e){
+			log.error("Store Service Error: {}", e.getResponseBodyAsString());
+			throw new GeneralException(ErrorStatus.MENU_NOT_FOUND);
+		}
+		if (!menuMap.keySet().containsAll(menuIds)) {
+			throw new GeneralException(ErrorStatus.MENU_NOT_FOUND);
+		}
+		return menuMap;
+	}
+
+	private Long totalPrice(List<RedisCartItem> cartItems, Map<UUID, MenuInfoResponse> menuMap) {
+		return cartItems.stream()
+			.mapToLong(item -> menuMap.get(item.getMenuId()).getPrice() * item.getQuantity())
+			.sum();
+	}
+
 	
 }
@@ -3,8 +3,6 @@ package app.domain.order.service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,6 +11,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -20,10 +19,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
@@ -33,17 +28,24 @@ import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.service.CartService;
 import app.domain.order.client.InternalStoreClient;
 import app.domain.order.kafka.Outbox;
+import app.domain.order.kafka.OutboxNotifier;
+import app.domain.order.kafka.event.OrderValidEvent;
+import app.domain.order.kafka.event.SagaEventCodec;
 import app.domain.order.kafka.repository.OutboxRepository;
 import app.domain.order.model.dto.response.MenuInfoResponse;
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.request.StockRequest;
+import app.domain.order.model.dto.request.OrderCursor;
+import app.domain.order.model.dto.response.CursorPageResponse;
 import app.domain.order.model.dto.response.OrderDetailResponse;
 import app.domain.order.model.dto.response.OrderResponse;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
 import app.domain.order.model.entity.OrderItem;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusHistoryRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.status.OrderErrorStatus;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -59,10 +61,18 @@ public class OrderService {
 	private final OrderItemRepository orderItemRepository;
 	private final CartService cartService;
 	private final OrderDelayService orderDelayService;
-	private final ObjectMapper objectMapper;
+	private final SagaEventCodec sagaEventCodec;
 	private final InternalStoreClient internalStoreClient;
 	private final TokenPrincipalParser tokenPrincipalParser;
 	private final OutboxRepository outboxRepository;
+	private final OutboxNotifier outboxNotifier;
+	private final OrderDetailCache orderDetailCache;
+	private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+	private final OrderStatusRecorder orderStatusRecorder;
+
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final LocalDateTime HISTORY_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+	private static final LocalDateTime HISTORY_MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
 
 	@Value("${topics.order.create_requested:}")
 	private String orderValidTopic;
@@ -72,7 +82,7 @@ public class OrderService {
 	public UUID createOrder(Authentication authentication, CreateOrderRequest request) {
 		String userIdStr = tokenPrincipalParser.getUserId(authentication);
 		Long userId = Long.parseLong(userIdStr);
-		List<RedisCartItem> cartItems = cartService.getCartFromCache(authentication);
+		List<RedisCartItem> cartItems = cartService.getCartForOrder(authentication);
 		if (cartItems.isEmpty()) {
 			throw new GeneralException(ErrorStatus.CART_NOT_FOUND);
 		}
@@ -94,19 +104,10 @@ public class OrderService {
 
 
 		Orders orders= ordersRepository.save(order);
+		orderStatusRecorder.created(orders);
 
-
-		Map<String, Object> payload = new HashMap<>();
-		payload.put("userId", userId);
-		payload.put("orderId", orders.getOrdersId());
-		payload.put("totalPrice", orders.getTotalPrice());
-
-		String payloadJson;
-		try {
-			payloadJson = objectMapper.writeValueAsString(payload);
-		} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
+		String payloadJson = sagaEventCodec.write(
+			new OrderValidEvent(userId, orders.getOrdersId(), orders.getTotalPrice()));
 
 		outboxRepository.save(
 			Outbox.pending(
@@ -116,6 +117,7 @@ public class OrderService {
 				payloadJson
 			)
 		);
+		outboxNotifier.notifyPending(orders.getOrdersId().toString());
 
 		orderDelayService.scheduleRefundDisable(order.getOrdersId());
 		return orders.getOrdersId();
@@ -127,12 +129,14 @@ public class OrderService {
 	}
 
 	public OrderDetailResponse getOrderDetail(UUID orderId) {
-		Orders order = ordersRepository.findById(orderId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+		return orderDetailCache.getDetail(orderId, () -> {
+			Orders order = ordersRepository.findById(orderId)
+				.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
 
-		List<OrderItem> orderItems = orderItemRepository.findByOrders(order);
+			List<OrderItem> orderItems = orderItemRepository.findByOrders(order);
 
-		return OrderDetailResponse.from(order, orderItems);
+			return OrderDetailResponse.from(order, orderItems);
+		});
 	}
 
 	@Transactional(readOnly = true)
@@ -140,14 +144,53 @@ public class OrderService {
 
 		Page<Orders> ordersPage = ordersRepository.findAllByUserIdAndDeliveryAddressIsNotNull(userId, pageable);
 
-		Page<OrderDetailResponse> mapped = ordersPage.map(order -> {
-			List<OrderItem> orderItems = orderItemRepository.findByOrders(order);
-			return OrderDetailResponse.from(order, orderItems);
-		});
+		Map<UUID, List<OrderItem>> itemsByOrder = itemsByOrder(ordersPage.getContent());
+		Page<OrderDetailResponse> mapped = ordersPage.map(order ->
+			OrderDetailResponse.from(order, itemsByOrder.getOrDefault(order.getOrdersId(), List.of())));
 
 		return PagedResponse.from(mapped);
 	}
 
+	// 키셋 페이지: 깊은 페이지도 인덱스 범위 스캔 한 번 + 주문 상품 IN 조회 한 번
+	@Transactional(readOnly = true)
+	public CursorPageResponse<OrderDetailResponse> getCustomerOrderListByCursor(Long userId, String cursor, int size) {
+		int limit = clampPageSize(size);
+		List<Orders> rows = ordersRepository.findDeliveryOrderPage(userId, OrderCursor.decode(cursor),
+			PageRequest.of(0, limit + 1));
+		return CursorPageResponse.of(rows, limit, this::toDetailResponses);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPageResponse<OrderResponse> getCustomerOrdersByCursor(Authentication authentication, String cursor,
+		int size) {
+		Long userId = Long.parseLong(tokenPrincipalParser.getUserId(authentication));
+		int limit = clampPageSize(size);
+		List<Orders> rows = ordersRepository.findCustomerPage(userId, OrderCursor.decode(cursor),
+			PageRequest.of(0, limit + 1));
+		return CursorPageResponse.of(rows, limit, page -> page.stream().map(OrderResponse::of).toList());
+	}
+
+	public static int clampPageSize(int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+
+	private List<OrderDetailResponse> toDetailResponses(List<Orders> orders) {
+		Map<UUID, List<OrderItem>> itemsByOrder = itemsByOrder(orders);
+		return orders.stream()
+			.map(order -> OrderDetailResponse.from(order, itemsByOrder.getOrDefault(order.getOrdersId(), List.of())))
+			.toList();
+	}
+
+	// 주문 상품을 IN 조회 한 번으로 가져온다 (주문마다 조회하던 N+1 제거)
+	private Map<UUID, List<OrderItem>> itemsByOrder(List<Orders> orders) {
+		if (orders.isEmpty()) {
+			return Map.of();
+		}
+		List<UUID> orderIds = orders.stream().map(Orders::getOrdersId).toList();
+		return orderItemRepository.findByOrders_OrdersIdIn(orderIds).stream()
+			.collect(Collectors.groupingBy(item -> item.getOrders().getOrdersId()));
+	}
+
 	private static final Map<OrderStatus, Set<OrderStatus>> VALID_TRANSITIONS = Map.of(
 		OrderStatus.PENDING, EnumSet.of(OrderStatus.ACCEPTED, OrderStatus.REJECTED, OrderStatus.REFUNDED),
 		OrderStatus.ACCEPTED, EnumSet.of(OrderStatus.COOKING),
@@ -163,8 +206,8 @@ public class OrderService {
 
 		validateOwnerUpdate(order, newStatus);
 
-		String updatedHistory = appendToHistory(order.getOrderHistory(), newStatus);
-		order.updateStatusAndHistory(newStatus, updatedHistory);
+		// 이력은 별도 테이블에 한 행 INSERT (기존 이력을 읽고 다시 쓰지 않는다)
+		orderStatusRecorder.change(order, newStatus);
 
 		return UpdateOrderStatusResponse.from(order);
 	}
@@ -190,29 +233,16 @@ public class OrderService {
 		}
 	}
 
-	private String appendToHistory(String currentHistoryJson, OrderStatus newStatus) {
-		TypeReference<Map<String, String>> typeRef = new TypeReference<>() {
-		};
-
-		Map<String, String> historyMap;
-		if (currentHistoryJson == null || currentHistoryJson.isBlank() || currentHistoryJson.equals("{}")) {
-			historyMap = new LinkedHashMap<>();
-		} else {
-			try {
-				historyMap = objectMapper.readValue(currentHistoryJson, typeRef);
-			} catch (JsonProcessingException e) {
-				throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-			}
-		}
-
-		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-		historyMap.put(newStatus.name(), timestamp);
-
-		try {
-			return objectMapper.writeValueAsString(historyMap);
-		} catch (JsonProcessingException e) {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+	// 기간 [from, to) 의 상태 이력. 생략하면 전체
+	@Transactional(readOnly = true)
+	public List<OrderStatusHistoryResponse> getStatusHistory(UUID orderId, LocalDateTime from, LocalDateTime to) {
+		if (!ordersRepository.existsById(orderId)) {
+			throw new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
 		}
+		return orderStatusHistoryRepository.findRange(orderId,
+				from == null ? HISTORY_MIN : from, to == null ? HISTORY_MAX : to).stream()
+			.map(OrderStatusHistoryResponse::from)
+			.toList();
 	}
 
 	@Transactional(readOnly = true)
@@ -0,0 +1,27 @@
+package app.domain.order.service;
+
+import org.springframework.stereotype.Component;
+
+import app.domain.order.model.entity.OrderStatusHistory;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+
+// 주문 상태 변경과 이력 INSERT 를 한곳에서 한다. 상태를 바꾸는 경로(점주 API, 사가, 내부 API)는 모두 여기를 거친다
+@Component
+@RequiredArgsConstructor
+public class OrderStatusRecorder {
+
+	private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+	// 저장된 새 주문의 첫 상태 이력
+	public void created(Orders order) {
+		orderStatusHistoryRepository.save(OrderStatusHistory.of(order.getOrdersId(), order.getOrderStatus().name()));
+	}
+
+	public void change(Orders order, OrderStatus status) {
+		order.updateOrderStatus(status);
+		orderStatusHistoryRepository.save(OrderStatusHistory.of(order.getOrdersId(), status.name()));
+	}
+}
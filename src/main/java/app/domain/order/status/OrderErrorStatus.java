@@ -19,7 +19,8 @@ public enum OrderErrorStatus implements BaseCode {
 	ORDER_ACCESS_DENIED(HttpStatus.FORBIDDEN, "ORDER006", "해당 주문에 대한 접근 권한이 없습니다."),
 	INVALID_ORDER_STATUS_TRANSITION(HttpStatus.BAD_REQUEST, "ORDER007", "유효하지 않은 주문 상태 전환입니다."),
 	ORDER_STORE_NOT_FOUND(HttpStatus.BAD_REQUEST,"ORDER008","해당 매장의 주문내역이 존재하지 않습니다"),
-	OUT_OF_STOCK(HttpStatus.BAD_REQUEST,"ORDER009","해당 메뉴의 재고가 떨어졌습니다");
+	OUT_OF_STOCK(HttpStatus.BAD_REQUEST,"ORDER009","해당 메뉴의 재고가 떨어졌습니다"),
+	INVALID_ORDER_CURSOR(HttpStatus.BAD_REQUEST,"ORDER010","유효하지 않은 페이지 커서입니다");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -18,7 +18,8 @@ public enum OrderSuccessStatus implements BaseCode {
 	MANAGER_GET_CUSTOMER_ORDER_OK(HttpStatus.OK, "ORDER205", "선택한 사용자의 주문 조회에 성공하였습니다."),
 	ORDER_EXISTS(HttpStatus.OK,"ORDER206","해당 주문이 존재합니다"),
 	ORDER_HISTORY_ADDED(HttpStatus.OK,"ORDER207","주문 history 추가를 성공하였습니다."),
-	ORDER_STORE_INFO(HttpStatus.OK,"ORDER208","해당 매장의 주문 내역 조회를 성공하였습니다.");
+	ORDER_STORE_INFO(HttpStatus.OK,"ORDER208","해당 매장의 주문 내역 조회를 성공하였습니다."),
+	ORDER_HISTORY_FETCHED(HttpStatus.OK, "ORDER209", "주문 상태 이력 조회에 성공하였습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
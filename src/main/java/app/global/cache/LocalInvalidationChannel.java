@@ -0,0 +1,77 @@
+package app.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파드 로컬 캐시 무효화 채널 (Redis pub/sub). 변경한 파드는 자기 사본을 지우고 "nodeId:key" 를 발행하며,
+ * 다른 파드는 받은 key 의 사본을 지운다 (자기가 보낸 것은 이미 지웠으므로 무시).
+ * 채움 도중 들어온 무효화는 세대 번호로 감지한다: 조회 전 generation() 을 읽고 unchangedSince 일 때만 캐시에 넣는다.
+ */
+@Slf4j
+public class LocalInvalidationChannel<K> implements MessageListener {
+
+	private final String channel;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Function<String, K> keyParser;
+	private final Consumer<K> evictLocal;
+	private final AtomicLong generation = new AtomicLong();
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public LocalInvalidationChannel(String channel, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer, Function<String, K> keyParser, Consumer<K> evictLocal) {
+		this.channel = channel;
+		this.redisTemplate = redisTemplate;
+		this.keyParser = keyParser;
+		this.evictLocal = evictLocal;
+		listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+	}
+
+	public long generation() {
+		return generation.get();
+	}
+
+	public boolean unchangedSince(long gen) {
+		return generation.get() == gen;
+	}
+
+	// 이 파드의 사본을 지우고 다른 파드에 알린다. 발행 실패는 각 캐시의 expire-after-write 가 상한
+	public void invalidate(K key) {
+		evict(key);
+		try {
+			redisTemplate.convertAndSend(channel, nodeId + ":" + key);
+		} catch (Exception e) {
+			log.warn("[Cache] invalidation publish failed channel={} key={} err={}", channel, key, e.toString());
+		}
+	}
+
+	private void evict(K key) {
+		generation.incrementAndGet();
+		evictLocal.accept(key);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int sep = body.lastIndexOf(':');
+		if (sep < 0 || body.substring(0, sep).equals(nodeId)) {
+			return;
+		}
+		try {
+			evict(keyParser.apply(body.substring(sep + 1)));
+		} catch (IllegalArgumentException e) {
+			log.warn("[Cache] malformed invalidation channel={} body={}", channel, body);
+		}
+	}
+}
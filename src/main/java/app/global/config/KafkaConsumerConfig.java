@@ -0,0 +1,39 @@
+package app.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+	// 배치 리스너용 컨테이너 팩토리 (에러 핸들러 등은 Boot 기본 설정을 그대로 적용)
+	@Bean
+	@ConditionalOnProperty(name = "kafka.listener.batch.enabled", havingValue = "true")
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> kafkaConsumerFactory
+	) {
+		var factory = new ConcurrentKafkaListenerContainerFactory<Object, Object>();
+		configurer.configure(factory, kafkaConsumerFactory);
+		factory.setBatchListener(true);
+		return factory;
+	}
+
+	// 리스너 컨슈머 스레드를 가상 스레드로 실행 (JDK 21 이상에서만 사용 가능)
+	@Bean
+	@ConditionalOnProperty(name = "kafka.listener.virtual-threads", havingValue = "true")
+	public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> virtualThreadContainerCustomizer() {
+		return container -> {
+			var executor = new SimpleAsyncTaskExecutor(container.getListenerId() + "-");
+			executor.setVirtualThreads(true);
+			container.getContainerProperties().setListenerTaskExecutor(executor);
+		};
+	}
+}
@@ -22,20 +22,24 @@ public class KafkaErrorConfig {
 
 	private final KafkaTemplate<String, String> template;
 
+	// 배치 리스너에서 레코드 단위 실패를 직접 .DLT 로 보낼 때도 사용
 	@Bean
-	public DefaultErrorHandler defaultErrorHandler() {
-		var backoff = new ExponentialBackOffWithMaxRetries(3);
-		backoff.setInitialInterval(200);
-		backoff.setMultiplier(2.0);
-		backoff.setMaxInterval(5000);
-
-
-		var recoverer = new DeadLetterPublishingRecoverer(
+	public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+		return new DeadLetterPublishingRecoverer(
 			template,
 			(record, ex) -> {
 			 return new TopicPartition(record.topic() + ".DLT", record.partition());
 			}
 		);
+	}
+
+	@Bean
+	public DefaultErrorHandler defaultErrorHandler(DeadLetterPublishingRecoverer recoverer) {
+		var backoff = new ExponentialBackOffWithMaxRetries(3);
+		backoff.setInitialInterval(200);
+		backoff.setMultiplier(2.0);
+		backoff.setMaxInterval(5000);
+
 		var handler = new DefaultErrorHandler(recoverer, backoff);
 
 		handler.addNotRetryableExceptions(
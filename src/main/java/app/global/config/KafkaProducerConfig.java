@@ -0,0 +1,109 @@
+package app.global.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기본 producer(DLT 발행/재처리)와 outbox relay 전용 producer 를 분리한다.
+ * Boot 자동설정의 ProducerFactory/KafkaTemplate 은 @ConditionalOnMissingBean 이라
+ * 전용 템플릿을 추가하면 사라지므로 기본 것도 여기서 직접 만든다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class KafkaProducerConfig {
+
+	private final KafkaProperties kafkaProperties;
+	private final MeterRegistry meterRegistry;
+
+	// 기본 producer (spring.kafka.producer.* + 가벼운 배칭)
+	@Value("${kafka.producer.linger-ms:5}")
+	private int defaultLingerMs;
+
+	@Value("${kafka.producer.compression-type:lz4}")
+	private String defaultCompression;
+
+	// outbox relay 전용 producer
+	@Value("${outbox.producer.linger-ms:20}")
+	private int outboxLingerMs;
+
+	@Value("${outbox.producer.batch-size:262144}")
+	private int outboxBatchSize;
+
+	@Value("${outbox.producer.compression-type:zstd}")
+	private String outboxCompression;
+
+	@Value("${outbox.producer.buffer-memory:67108864}")
+	private long outboxBufferMemory;
+
+	// true 면 relay 배치 하나를 Kafka 트랜잭션 하나로 발행 (소비측은 isolation.level=read_committed 필요)
+	@Value("${outbox.producer.transactional:false}")
+	private boolean outboxTransactional;
+
+	@Value("${outbox.producer.transaction-id-prefix:order-outbox-}")
+	private String outboxTxPrefix;
+
+	@Bean
+	@Primary
+	public ProducerFactory<String, String> kafkaProducerFactory() {
+		Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+		props.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, defaultLingerMs);
+		props.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, defaultCompression);
+		return withMetrics(new DefaultKafkaProducerFactory<>(props), "default");
+	}
+
+	@Bean
+	@Primary
+	public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> kafkaProducerFactory) {
+		return new KafkaTemplate<>(kafkaProducerFactory);
+	}
+
+	@Bean
+	public ProducerFactory<String, String> outboxProducerFactory() {
+		Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+		props.put(ProducerConfig.LINGER_MS_CONFIG, outboxLingerMs);
+		props.put(ProducerConfig.BATCH_SIZE_CONFIG, outboxBatchSize);
+		props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, outboxCompression);
+		props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, outboxBufferMemory);
+		props.put(ProducerConfig.CLIENT_ID_CONFIG, "order-outbox");
+
+		DefaultKafkaProducerFactory<String, String> factory = new DefaultKafkaProducerFactory<>(props);
+		if (outboxTransactional) {
+			// 파드마다 transactional.id 가 겹치지 않도록
+			factory.setTransactionIdPrefix(outboxTxPrefix + UUID.randomUUID() + "-");
+		}
+		log.info("[Kafka] outbox producer linger={}ms batch={}B compression={} transactional={}",
+			outboxLingerMs, outboxBatchSize, outboxCompression, outboxTransactional);
+		return withMetrics(factory, "outbox");
+	}
+
+	@Bean
+	public KafkaTemplate<String, String> outboxKafkaTemplate(
+		@Qualifier("outboxProducerFactory") ProducerFactory<String, String> outboxProducerFactory
+	) {
+		return new KafkaTemplate<>(outboxProducerFactory);
+	}
+
+	private ProducerFactory<String, String> withMetrics(DefaultKafkaProducerFactory<String, String> factory, String name) {
+		factory.addListener(new MicrometerProducerListener<>(meterRegistry, List.of(Tag.of("producer", name))));
+		return factory;
+	}
+}
@@ -1,10 +1,15 @@
 package app.global.config;
 
+import java.util.Map;
+
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.TopicConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.config.TopicBuilder;
 
 @Configuration
@@ -16,6 +21,15 @@ public class KafkaTopicConfig {
 	@Value("${kafka.topic.rf:1}")
 	private short RF;
 
+	// 토픽별 파티션 수 (예: kafka.topic.partition-overrides."[order.valid.result]": 12), .DLT 는 원 토픽을 따른다
+	private final Map<String, Integer> partitionOverrides;
+
+	public KafkaTopicConfig(Environment environment) {
+		this.partitionOverrides = Binder.get(environment)
+			.bind("kafka.topic.partition-overrides", Bindable.mapOf(String.class, Integer.class))
+			.orElse(Map.of());
+	}
+
 	private static final String RET_3D  = String.valueOf(3L  * 24 * 60 * 60 * 1000);
 	private static final String RET_14D = String.valueOf(14L * 24 * 60 * 60 * 1000);
 	@Value("${topics.order.create_requested}") private String tOrderCreateRequested;
@@ -57,7 +71,7 @@ public class KafkaTopicConfig {
 
 	private NewTopic base(String name) {
 		return TopicBuilder.name(name)
-			.partitions(PARTITIONS)
+			.partitions(partitions(name))
 			.replicas(RF)
 			.config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_DELETE)
 			.config(TopicConfig.RETENTION_MS_CONFIG, RET_3D)
@@ -66,10 +80,15 @@ public class KafkaTopicConfig {
 
 	private NewTopic dlt(String name) {
 		return TopicBuilder.name(name + ".DLT")
-			.partitions(PARTITIONS)
+			.partitions(partitions(name))
 			.replicas(RF)
 			.config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_DELETE)
 			.config(TopicConfig.RETENTION_MS_CONFIG, RET_14D)
 			.build();
 	}
+
+	// 파티션은 늘리기만 가능하므로 기존보다 작은 값은 KafkaAdmin 이 무시한다
+	private int partitions(String name) {
+		return partitionOverrides.getOrDefault(name, PARTITIONS);
+	}
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package app.global.config;
 
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
 import org.redisson.config.SingleServerConfig;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,10 +24,18 @@ public class RedissonConfig {
 	@Value("${REDIS_PROTOCOL:}")
 	private String redisProtocol;
 
+	// 클러스터 모드 (host:port,host:port). 비어 있으면 단일 노드
+	@Value("${spring.data.redis.cluster.nodes:}")
+	private String clusterNodes;
+
 	@Bean
 	public RedissonClient redissonClient() {
 		Config config = new Config();
 
+		if (!clusterNodes.isBlank()) {
+			return Redisson.create(clusterConfig(config));
+		}
+
 		SingleServerConfig serverConfig = config.useSingleServer();
 
 		if ("rediss".equalsIgnoreCase(redisProtocol)) {
@@ -42,4 +51,19 @@ public class RedissonConfig {
 		return Redisson.create(config);
 	}
 
+	private Config clusterConfig(Config config) {
+		ClusterServersConfig clusterConfig = config.useClusterServers();
+		String scheme = "rediss".equalsIgnoreCase(redisProtocol) ? "rediss://" : "redis://";
+		for (String node : clusterNodes.split(",")) {
+			clusterConfig.addNodeAddress(scheme + node.trim());
+		}
+		if ("rediss".equalsIgnoreCase(redisProtocol)) {
+			clusterConfig.setSslEnableEndpointIdentification(true);
+		}
+		if (redisPassword != null && !redisPassword.isBlank()) {
+			clusterConfig.setPassword(redisPassword);
+		}
+		return config;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package app.global.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ddl-auto 가 none 이라 JPA 가 만들지 않는 스키마(추가 컬럼, 부분 인덱스, 보조 테이블)를 준비한다. 두 단계로 나뉜다.
+ * <ul>
+ *   <li>statements(): 엔티티가 매핑하는 테이블/컬럼/시퀀스. InitializingBean 으로 실행되고 SchemaInitializerOrdering 이
+ *   EntityManagerFactory 를 이 빈들 뒤로 미루므로 relay/리스너/서비스가 뜨기 전에 끝난다. 실패하면 기동을 멈춘다.
+ *   운영 테이블에 오래 걸리는 잠금을 잡지 않는 짧은 DDL 만 둔다.</li>
+ *   <li>indexes(): CREATE INDEX CONCURRENTLY. 기동 경로에서 빼 ApplicationReadyEvent 뒤 백그라운드에서 만든다.
+ *   다른 파드가 만들고 있으면 건너뛰고, 실패해도 로그만 남긴다 (다음 기동 때 다시 시도).
+ *   schema.index-build.enabled=false 로 끄고 운영 작업으로 돌릴 수 있다.</li>
+ * </ul>
+ * 잠금은 pg_try_advisory_lock 으로만 잡는다. pg_advisory_lock 으로 대기하는 세션은 스냅샷을 쥔 채 머물러
+ * 다른 파드의 CONCURRENTLY 빌드가 그 세션을 기다리게 되므로 (롤링 배포 중 교착), 짧게 재시도하며 기다린다.
+ */
+@Slf4j
+public abstract class SchemaInitializer implements InitializingBean {
+
+	// pg_try_advisory_lock(namespace, key) 의 namespace ("schm"). key 0: 기동 DDL, key 1: 인덱스 빌드
+	private static final int LOCK_NAMESPACE = 0x7363686d;
+	private static final int DDL_LOCK = 0;
+	private static final int INDEX_LOCK = 1;
+	private static final long LOCK_RETRY_MS = 200;
+	private static final Pattern CONCURRENT_INDEX = Pattern.compile("CONCURRENTLY IF NOT EXISTS (\\w+)");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${schema.lock-wait:PT60S}")
+	private Duration lockWait;
+
+	@Value("${schema.index-build.enabled:true}")
+	private boolean indexBuildEnabled;
+
+	protected SchemaInitializer(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	protected abstract String name();
+
+	protected abstract boolean enabled();
+
+	// 기동 전에 반드시 있어야 하는 짧은 DDL (멱등)
+	protected abstract List<String> statements();
+
+	// 기동 뒤 백그라운드로 만드는 인덱스 (CREATE INDEX CONCURRENTLY IF NOT EXISTS ...)
+	protected List<String> indexes() {
+		return List.of();
+	}
+
+	// ALTER TABLE ... ADD COLUMN IF NOT EXISTS 도 컬럼이 이미 있을 때 ACCESS EXCLUSIVE 잠금을 먼저 잡으므로
+	// (진행 중인 CONCURRENTLY 빌드나 긴 트랜잭션 뒤에서 기동이 멈춘다) 카탈로그를 먼저 보고 없을 때만 실행한다
+	protected static String addColumnIfMissing(String table, String column, String type) {
+		return "DO $$ BEGIN"
+			+ " IF NOT EXISTS (SELECT 1 FROM information_schema.columns"
+			+ " WHERE table_schema = current_schema() AND table_name = '" + table + "' AND column_name = '" + column + "')"
+			+ " THEN ALTER TABLE " + table + " ADD COLUMN " + column + " " + type + "; END IF;"
+			+ " END $$";
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (!enabled()) {
+			return;
+		}
+		jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+			try (Statement st = con.createStatement()) {
+				if (!awaitLock(st)) {
+					throw new IllegalStateException("[" + name() + "] schema lock not acquired within " + lockWait);
+				}
+				try {
+					for (String ddl : statements()) {
+						try {
+							st.execute(ddl);
+						} catch (Exception e) {
+							throw new IllegalStateException("[" + name() + "] schema init failed: " + ddl.strip(), e);
+						}
+					}
+				} finally {
+					unlock(st, DDL_LOCK);
+				}
+			}
+			return null;
+		});
+		log.info("[{}] schema ready ({} statements)", name(), statements().size());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildIndexes() {
+		if (!enabled() || !indexBuildEnabled || indexes().isEmpty()) {
+			return;
+		}
+		Thread builder = new Thread(this::buildIndexesNow, "schema-index-" + name());
+		builder.setDaemon(true);
+		builder.start();
+	}
+
+	// CREATE INDEX CONCURRENTLY 는 트랜잭션 밖(autocommit)에서만 실행된다. 잠금과 DDL 을 한 커넥션에서 실행
+	private void buildIndexesNow() {
+		try {
+			jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+				try (Statement st = con.createStatement()) {
+					if (!tryLock(st, INDEX_LOCK)) {
+						log.info("[{}] index build skipped: another instance holds the lock", name());
+						return null;
+					}
+					try {
+						for (String ddl : indexes()) {
+							try {
+								dropIfInvalid(con, st, ddl);
+								st.execute(ddl);
+							} catch (SQLException e) {
+								log.error("[{}] index build failed: {}", name(), ddl.strip(), e);
+							}
+						}
+					} finally {
+						unlock(st, INDEX_LOCK);
+					}
+				}
+				return null;
+			});
+			log.info("[{}] indexes ready ({} statements)", name(), indexes().size());
+		} catch (Exception e) {
+			log.error("[{}] index build aborted", name(), e);
+		}
+	}
+
+	// 한 번에 하나의 문장만 실행하고 돌아오므로 대기 중에도 스냅샷을 쥐고 있지 않는다
+	private boolean awaitLock(Statement st) throws SQLException {
+		long deadline = System.nanoTime() + lockWait.toNanos();
+		while (!tryLock(st, DDL_LOCK)) {
+			if (System.nanoTime() >= deadline) {
+				return false;
+			}
+			try {
+				Thread.sleep(LOCK_RETRY_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean tryLock(Statement st, int key) throws SQLException {
+		try (ResultSet rs = st.executeQuery("SELECT pg_try_advisory_lock(" + LOCK_NAMESPACE + ", " + key + ")")) {
+			return rs.next() && rs.getBoolean(1);
+		}
+	}
+
+	private void unlock(Statement st, int key) throws SQLException {
+		st.execute("SELECT pg_advisory_unlock(" + LOCK_NAMESPACE + ", " + key + ")");
+	}
+
+	// CONCURRENTLY 빌드가 중간에 실패하면 INVALID 인덱스가 남고 IF NOT EXISTS 가 그것을 건너뛴다
+	private void dropIfInvalid(Connection con, Statement st, String ddl) throws SQLException {
+		Matcher m = CONCURRENT_INDEX.matcher(ddl);
+		if (!m.find()) {
+			return;
+		}
+		String index = m.group(1);
+		boolean invalid;
+		try (PreparedStatement ps = con.prepareStatement(
+			"SELECT NOT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?")) {
+			ps.setString(1, index);
+			try (ResultSet rs = ps.executeQuery()) {
+				invalid = rs.next() && rs.getBoolean(1);
+			}
+		}
+		if (invalid) {
+			log.warn("[{}] dropping invalid index {}", name(), index);
+			st.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package app.global.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.stereotype.Component;
+
+// EntityManagerFactory(→ 모든 JPA 리포지토리)가 SchemaInitializer 빈들 이후에 만들어지도록 한다 (Flyway 연동과 같은 방식)
+@Component
+public class SchemaInitializerOrdering extends EntityManagerFactoryDependsOnPostProcessor {
+
+	public SchemaInitializerOrdering() {
+		super(SchemaInitializer.class);
+	}
+}
@@ -0,0 +1,39 @@
+-- 장바구니 상품 추가/수량 누적 (다른 매장 상품이 담겨 있으면 비우고 새로 담는다)
+-- KEYS[1] = cart:{<userId>}, KEYS[2] = DB 동기화 대기(dirty) 집합 cart-dirty:{<슬롯 태그>}, KEYS[3] = cart-ttl:{<userId>} (세션 만료 표시, 만료 시 저장을 쓸 때만)
+-- ARGV[1] = 세션 TTL(ms), ARGV[2] = 데이터 TTL(ms, 만료 시 저장을 쓰면 세션 TTL + 유예), ARGV[3] = menuId, ARGV[4] = storeId, ARGV[5] = 추가 수량, ARGV[6] = 값 형식(json | compact)
+-- return  = 변경 후 장바구니 (HGETALL)
+local key = KEYS[1]
+local menuId, storeId, delta = ARGV[3], ARGV[4], tonumber(ARGV[5])
+
+local meta = redis.pcall('HGET', key, '_meta')
+if type(meta) == 'table' and meta.err then
+  -- 이전 형식: 빈 장바구니 '' 문자열 키
+  redis.call('DEL', key)
+  meta = false
+elseif not meta then
+  -- 이전 형식: _meta 없는 해시
+  local first = redis.call('HVALS', key)[1]
+  meta = first and cjson.decode(first).storeId or false
+end
+if meta and meta ~= '' and meta ~= storeId then
+  redis.call('DEL', key)
+end
+
+local quantity = delta
+local current = redis.call('HGET', key, menuId)
+if current then
+  -- JSON 값은 '{' 로 시작, compact 는 수량만
+  local old = string.sub(current, 1, 1) == '{' and cjson.decode(current).quantity or tonumber(current)
+  quantity = old + delta
+end
+local value
+if ARGV[6] == 'compact' then
+  value = tostring(quantity)
+else
+  value = cjson.encode({ menuId = menuId, storeId = storeId, quantity = quantity })
+end
+redis.call('HSET', key, menuId, value, '_meta', storeId)
+redis.call('PEXPIRE', key, ARGV[2])
+if KEYS[3] then redis.call('SET', KEYS[3], '1', 'PX', ARGV[1]) end
+redis.call('SADD', KEYS[2], key)
+return redis.call('HGETALL', key)
@@ -0,0 +1,22 @@
+-- 세션이 만료된 장바구니를 DB 저장용으로 가져간다 (여러 파드 중 claim 키를 잡은 한 곳만 내용을 받는다)
+-- 장바구니와 dirty 표시는 지우지 않는다. DB 반영이 커밋된 뒤 cart_expire_complete 가 지운다
+-- KEYS[1] = cart:{<userId>}, KEYS[2] = DB 동기화 대기(dirty) 집합 cart-dirty:{<슬롯 태그>}, KEYS[3] = cart-ttl:{<userId>}, KEYS[4] = cart-claim:{<userId>}
+-- ARGV[1] = claim TTL(ms, 만료되면 리스너가 다시 시도), ARGV[2] = 재시도까지 장바구니를 남겨 둘 최소 TTL(ms)
+-- return  = 장바구니 (HGETALL), 다른 파드가 가져갔거나 그 사이 다시 사용 중이면 빈 목록
+if redis.call('EXISTS', KEYS[3]) == 1 then
+  return {}
+end
+if not redis.call('SET', KEYS[4], '1', 'NX', 'PX', ARGV[1]) then
+  return {}
+end
+local ok, entries = pcall(redis.call, 'HGETALL', KEYS[1])
+if not ok or #entries == 0 then
+  redis.call('DEL', KEYS[4])
+  return {}
+end
+if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[2]) then
+  redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+-- 저장이 끝나기 전에 죽어도 주기 동기화가 이어받도록 dirty 표시를 유지한다
+redis.call('SADD', KEYS[2], KEYS[1])
+return entries
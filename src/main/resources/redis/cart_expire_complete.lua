@@ -0,0 +1,10 @@
+-- 만료 장바구니의 DB 반영이 커밋된 뒤 Redis 에서 지운다
+-- KEYS[1] = cart:{<userId>}, KEYS[2] = DB 동기화 대기(dirty) 집합 cart-dirty:{<슬롯 태그>}, KEYS[3] = cart-ttl:{<userId>}, KEYS[4] = cart-claim:{<userId>}
+-- return  = 지웠으면 1, 그 사이 다시 사용 중이면 0 (장바구니와 dirty 표시를 그대로 둔다)
+redis.call('DEL', KEYS[4])
+if redis.call('EXISTS', KEYS[3]) == 1 then
+  return 0
+end
+redis.call('DEL', KEYS[1])
+redis.call('SREM', KEYS[2], KEYS[1])
+return 1
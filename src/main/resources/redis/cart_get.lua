@@ -0,0 +1,17 @@
+-- 장바구니 조회 + TTL 연장 (HGETALL + PEXPIRE 를 한 번에). 보고 있는 장바구니는 만료되지 않는다
+-- KEYS[1] = cart:{<userId>}, KEYS[2] = DB 동기화 대기(dirty) 집합 (사용 안 함), KEYS[3] = cart-ttl:{<userId>} (세션 만료 표시, 만료 시 저장을 쓸 때만)
+-- ARGV[1] = 세션 TTL(ms), ARGV[2] = 데이터 TTL(ms, 만료 시 저장을 쓰면 세션 TTL + 유예)
+-- return  = 장바구니 (HGETALL), 키가 없으면 빈 목록
+local key = KEYS[1]
+local entries = redis.pcall('HGETALL', key)
+if type(entries) == 'table' and entries.err then
+  -- 이전 형식: 빈 장바구니 '' 문자열 키
+  redis.call('DEL', key)
+  redis.call('HSET', key, '_meta', '')
+  entries = { '_meta', '' }
+elseif #entries == 0 then
+  return entries
+end
+redis.call('PEXPIRE', key, ARGV[2])
+if KEYS[3] then redis.call('SET', KEYS[3], '1', 'PX', ARGV[1]) end
+return entries
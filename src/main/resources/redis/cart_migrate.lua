@@ -0,0 +1,19 @@
+-- 이전 형식 장바구니 키를 _meta 해시 형식으로 변환 (TTL 유지)
+-- KEYS[1] = 장바구니 키 (cart:*, 이전 키 형식 포함)
+-- return  = 변환했으면 1
+local key = KEYS[1]
+local keyType = redis.call('TYPE', key).ok
+if keyType == 'string' then
+  local ttl = redis.call('PTTL', key)
+  redis.call('DEL', key)
+  redis.call('HSET', key, '_meta', '')
+  if ttl > 0 then
+    redis.call('PEXPIRE', key, ttl)
+  end
+  return 1
+elseif keyType == 'hash' and redis.call('HEXISTS', key, '_meta') == 0 then
+  local first = redis.call('HVALS', key)[1]
+  redis.call('HSET', key, '_meta', first and cjson.decode(first).storeId or '')
+  return 1
+end
+return 0
@@ -0,0 +1,21 @@
+-- 장바구니 상품 삭제
+-- KEYS[1] = cart:{<userId>}, KEYS[2] = DB 동기화 대기(dirty) 집합 cart-dirty:{<슬롯 태그>}, KEYS[3] = cart-ttl:{<userId>} (세션 만료 표시, 만료 시 저장을 쓸 때만)
+-- ARGV[1] = 세션 TTL(ms), ARGV[2] = 데이터 TTL(ms, 만료 시 저장을 쓰면 세션 TTL + 유예), ARGV[3] = menuId
+-- 마지막 상품이 빠져도 키는 _meta 만 가진 빈 장바구니로 남는다 (DB 재로딩 방지)
+local key = KEYS[1]
+local removed = redis.pcall('HDEL', key, ARGV[3])
+if type(removed) == 'table' and removed.err then
+  -- 이전 형식: 빈 장바구니 '' 문자열 키
+  redis.call('DEL', key)
+  redis.call('HSET', key, '_meta', '')
+  removed = 0
+elseif removed == 1 then
+  redis.call('SADD', KEYS[2], key)
+  local len = redis.call('HLEN', key)
+  if len == 0 or (len == 1 and redis.call('HEXISTS', key, '_meta') == 1) then
+    redis.call('HSET', key, '_meta', '')
+  end
+end
+redis.call('PEXPIRE', key, ARGV[2])
+if KEYS[3] then redis.call('SET', KEYS[3], '1', 'PX', ARGV[1]) end
+return removed
@@ -0,0 +1,11 @@
+-- 장바구니 전체 교체 (DEL + HSET + PEXPIRE 를 한 번에, 원자적으로)
+-- KEYS[1] = cart:{<userId>}, KEYS[2] = DB 동기화 대기(dirty) 집합 cart-dirty:{<슬롯 태그>}, KEYS[3] = cart-ttl:{<userId>} (세션 만료 표시, 만료 시 저장을 쓸 때만)
+-- ARGV[1] = 세션 TTL(ms), ARGV[2] = 데이터 TTL(ms, 만료 시 저장을 쓰면 세션 TTL + 유예), ARGV[3] = 매장 ID(빈 장바구니는 ''),
+-- ARGV[4] = dirty 표시 여부('1' | '0', DB 에서 읽어 올린 장바구니는 '0'), ARGV[5..] = menuId, 인코딩된 값, ...
+-- 빈 장바구니도 _meta 필드만 가진 해시로 남는다
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], '_meta', ARGV[3], unpack(ARGV, 5))
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+if KEYS[3] then redis.call('SET', KEYS[3], '1', 'PX', ARGV[1]) end
+if ARGV[4] == '1' then redis.call('SADD', KEYS[2], KEYS[1]) end
+return (#ARGV - 4) / 2
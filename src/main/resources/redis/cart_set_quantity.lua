@@ -0,0 +1,33 @@
+-- 장바구니 상품 수량 변경 (담겨 있는 상품만)
+-- KEYS[1] = cart:{<userId>}, KEYS[2] = DB 동기화 대기(dirty) 집합 cart-dirty:{<슬롯 태그>}, KEYS[3] = cart-ttl:{<userId>} (세션 만료 표시, 만료 시 저장을 쓸 때만)
+-- ARGV[1] = 세션 TTL(ms), ARGV[2] = 데이터 TTL(ms, 만료 시 저장을 쓰면 세션 TTL + 유예), ARGV[3] = menuId, ARGV[4] = 수량, ARGV[5] = 값 형식(json | compact)
+-- return  = 변경 후 장바구니 (HGETALL)
+local key = KEYS[1]
+local current = redis.pcall('HGET', key, ARGV[3])
+if type(current) == 'table' and current.err then
+  -- 이전 형식: 빈 장바구니 '' 문자열 키
+  redis.call('DEL', key)
+  redis.call('HSET', key, '_meta', '')
+  redis.call('PEXPIRE', key, ARGV[2])
+  if KEYS[3] then redis.call('SET', KEYS[3], '1', 'PX', ARGV[1]) end
+  return {}
+end
+
+if current then
+  local value
+  if ARGV[5] == 'compact' then
+    value = ARGV[4]
+  elseif string.sub(current, 1, 1) == '{' then
+    local item = cjson.decode(current)
+    item.quantity = tonumber(ARGV[4])
+    value = cjson.encode(item)
+  else
+    local storeId = redis.call('HGET', key, '_meta')
+    value = cjson.encode({ menuId = ARGV[3], storeId = storeId, quantity = tonumber(ARGV[4]) })
+  end
+  redis.call('HSET', key, ARGV[3], value)
+  redis.call('SADD', KEYS[2], key)
+end
+redis.call('PEXPIRE', key, ARGV[2])
+if KEYS[3] then redis.call('SET', KEYS[3], '1', 'PX', ARGV[1]) end
+return redis.call('HGETALL', key)
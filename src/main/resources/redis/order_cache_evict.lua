@@ -0,0 +1,7 @@
+-- 주문 캐시 무효화: 값을 지우고 버전을 올려 진행 중인 조회가 이전 값을 다시 쓰지 못하게 한다
+-- KEYS[1] = order:detail:{<orderId>}, KEYS[2] = order:info:{<orderId>}, KEYS[3] = order:ver:{<orderId>}
+-- ARGV[1] = 버전 키 TTL(ms, 조회 한 번보다 충분히 길게)
+redis.call('DEL', KEYS[1], KEYS[2])
+redis.call('INCR', KEYS[3])
+redis.call('PEXPIRE', KEYS[3], ARGV[1])
+return 1
@@ -0,0 +1,9 @@
+-- 주문 캐시 값 쓰기 (버전 확인). 조회를 시작한 뒤 어느 파드든 무효화했으면 이전 값을 쓰지 않는다
+-- KEYS[1] = order:detail:{<orderId>} | order:info:{<orderId>}, KEYS[2] = order:ver:{<orderId>}
+-- ARGV[1] = 조회 전에 읽은 버전 (없으면 ''), ARGV[2] = 값(JSON), ARGV[3] = TTL(ms)
+-- return  = 썼으면 1
+if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+  return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
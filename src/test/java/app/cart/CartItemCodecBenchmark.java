@@ -0,0 +1,77 @@
+package app.cart;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartItemCodec;
+import app.domain.cart.service.CompactCartItemCodec;
+import app.domain.cart.service.JsonCartItemCodec;
+
+/**
+ * 장바구니 값 형식(json / compact) 인코딩·디코딩 비교 측정.
+ * 결과는 출력만 하고 단정하지 않는다. 기본 test 에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("CartItemCodec Benchmark")
+class CartItemCodecBenchmark {
+
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 200_000;
+
+	private List<CartItemCodec> codecs;
+	private UUID storeId;
+	private List<RedisCartItem> items;
+
+	@BeforeEach
+	void setUp() {
+		codecs = List.of(new JsonCartItemCodec(new ObjectMapper()), new CompactCartItemCodec());
+		storeId = UUID.randomUUID();
+		items = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			items.add(new RedisCartItem(UUID.randomUUID(), storeId, i + 1));
+		}
+	}
+
+	@Test
+	@DisplayName("인코딩/디코딩 비교 측정")
+	void measure() {
+		for (CartItemCodec codec : codecs) {
+			run(codec, WARMUP);
+			long start = System.nanoTime();
+			int ops = run(codec, ITERATIONS);
+			long nanosPerOp = (System.nanoTime() - start) / ops;
+			System.out.printf("[CartItemCodec] %-7s %4d ns/op, %5d bytes per %d items%n",
+				codec.format(), nanosPerOp, encodedBytes(codec), items.size());
+		}
+	}
+
+	private int run(CartItemCodec codec, int iterations) {
+		int ops = 0;
+		for (int i = 0; i < iterations; i++) {
+			RedisCartItem item = items.get(i % items.size());
+			RedisCartItem decoded = codec.decode(item.getMenuId().toString(), storeId.toString(), codec.encode(item));
+			if (decoded.getQuantity() == item.getQuantity()) {
+				ops++;
+			}
+		}
+		return ops;
+	}
+
+	private int encodedBytes(CartItemCodec codec) {
+		int total = 0;
+		for (RedisCartItem item : items) {
+			total += codec.encode(item).getBytes(StandardCharsets.UTF_8).length;
+		}
+		return total;
+	}
+}
@@ -0,0 +1,71 @@
+package app.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartItemCodec;
+import app.domain.cart.service.CompactCartItemCodec;
+import app.domain.cart.service.JsonCartItemCodec;
+
+@DisplayName("CartItemCodec Test")
+class CartItemCodecTest {
+
+	private JsonCartItemCodec json;
+	private CompactCartItemCodec compact;
+	private UUID storeId;
+	private List<RedisCartItem> items;
+
+	@BeforeEach
+	void setUp() {
+		json = new JsonCartItemCodec(new ObjectMapper());
+		compact = new CompactCartItemCodec();
+		storeId = UUID.randomUUID();
+		items = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			items.add(new RedisCartItem(UUID.randomUUID(), storeId, i + 1));
+		}
+	}
+
+	@Test
+	@DisplayName("두 형식 모두 menuId/storeId/수량을 그대로 복원한다")
+	void roundTrip() {
+		for (CartItemCodec codec : List.of(json, compact)) {
+			for (RedisCartItem item : items) {
+				RedisCartItem decoded = codec.decode(item.getMenuId().toString(), storeId.toString(), codec.encode(item));
+				assertThat(decoded.getMenuId()).isEqualTo(item.getMenuId());
+				assertThat(decoded.getStoreId()).isEqualTo(storeId);
+				assertThat(decoded.getQuantity()).isEqualTo(item.getQuantity());
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("compact 값은 JSON 보다 작고 '{' 로 시작하지 않는다")
+	void compactIsSmaller() {
+		int jsonBytes = encodedBytes(json);
+		int compactBytes = encodedBytes(compact);
+
+		assertThat(compactBytes * 10).isLessThan(jsonBytes);
+		assertThat(compact.encode(items.get(0))).doesNotStartWith("{");
+		assertThat(json.encode(items.get(0))).startsWith("{");
+	}
+
+	private int encodedBytes(CartItemCodec codec) {
+		int total = 0;
+		for (RedisCartItem item : items) {
+			total += codec.encode(item).getBytes(StandardCharsets.UTF_8).length;
+		}
+		return total;
+	}
+}
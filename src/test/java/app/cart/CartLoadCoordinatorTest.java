@@ -0,0 +1,140 @@
+package app.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.cart.service.CartLoadCoordinator;
+import app.domain.cart.service.CartRedisService;
+import app.domain.cart.status.CartErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartLoadCoordinator Test")
+class CartLoadCoordinatorTest {
+
+	@Mock
+	private CartRedisService cartRedisService;
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private RLock lock;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CartLoadCoordinator coordinator;
+	private final Long userId = 1L;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		coordinator = new CartLoadCoordinator(cartRedisService, redissonClient, meterRegistry);
+		ReflectionTestUtils.setField(coordinator, "lockWait", Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(coordinator, "lockLease", Duration.ofSeconds(5));
+		when(redissonClient.getLock(anyString())).thenReturn(lock);
+		lenient().when(lock.isHeldByCurrentThread()).thenReturn(true);
+	}
+
+	private double loadCount(String result) {
+		return meterRegistry.get("cart.load").tag("result", result).counter().count();
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 동시 로드는 DB 로드 한 번으로 합쳐진다")
+	void concurrentLoads_AreCoalesced() throws Exception {
+		when(lock.tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+		when(cartRedisService.existsCartInRedis(userId)).thenReturn(false);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable loader = () -> {
+			loads.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> coordinator.load(userId, loader));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Void> second = CompletableFuture.runAsync(() -> coordinator.load(userId, loader));
+		// 두 번째 호출이 첫 번째 로드에 합류할 때까지 기다린 뒤 로드를 끝낸다
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (loadCount("coalesced") < 1 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		release.countDown();
+		CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(loadCount("loaded")).isEqualTo(1);
+		assertThat(loadCount("coalesced")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("락 대기가 끝나도 Redis 에 장바구니가 없으면 DB 를 읽지 않고 CART_LOAD_TIMEOUT 으로 실패한다")
+	void lockTimeout_FailsWithoutLoading() throws Exception {
+		when(lock.tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
+		when(cartRedisService.existsCartInRedis(userId)).thenReturn(false);
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThatThrownBy(() -> coordinator.load(userId, loads::incrementAndGet))
+			.isInstanceOf(GeneralException.class)
+			.satisfies(ex -> assertThat(((GeneralException)ex).getErrorReason().getMessage())
+				.isEqualTo(CartErrorStatus.CART_LOAD_TIMEOUT.getMessage()));
+		assertThat(loads.get()).isZero();
+		verify(lock, never()).unlock();
+	}
+
+	@Test
+	@DisplayName("락 대기 중 다른 파드가 장바구니를 올렸으면 다시 읽지 않고 성공한다")
+	void lockTimeout_LoadedElsewhere_Skips() throws Exception {
+		when(lock.tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
+		when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
+		AtomicInteger loads = new AtomicInteger();
+
+		coordinator.load(userId, loads::incrementAndGet);
+
+		assertThat(loads.get()).isZero();
+		assertThat(loadCount("loaded-elsewhere")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("락을 잡으면 DB 에서 로드하고 락을 푼다")
+	void locked_LoadsAndUnlocks() throws Exception {
+		when(lock.tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+		when(cartRedisService.existsCartInRedis(userId)).thenReturn(false);
+		AtomicInteger loads = new AtomicInteger();
+
+		coordinator.load(userId, loads::incrementAndGet);
+
+		assertThat(loads.get()).isEqualTo(1);
+		verify(lock).unlock();
+	}
+}
@@ -0,0 +1,305 @@
+package app.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartKeyScanner;
+import app.domain.cart.service.CartLayoutMigrator;
+import app.domain.cart.service.CartRedisServiceImpl;
+import app.domain.cart.service.CompactCartItemCodec;
+import app.domain.cart.service.JsonCartItemCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 장바구니 Lua 스크립트(cart_add_item / cart_set_quantity 등)를 실제 Redis 에서 실행해 검증한다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Cart Redis script Test")
+class CartRedisScriptTest {
+
+	@Container
+	@SuppressWarnings("resource")
+	private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> redisTemplate;
+
+	private final Long userId = 1L;
+	private final UUID storeId1 = UUID.randomUUID();
+	private final UUID storeId2 = UUID.randomUUID();
+	private final UUID menuId1 = UUID.randomUUID();
+	private final UUID menuId2 = UUID.randomUUID();
+
+	private CartRedisServiceImpl cartRedisService;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+	}
+
+	private void useCodec(String format) {
+		cartRedisService = new CartRedisServiceImpl(redisTemplate, new JsonCartItemCodec(new ObjectMapper()),
+			new CompactCartItemCodec(), new CartKeyScanner(redisTemplate), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cartRedisService, "expiryGrace", Duration.ofMinutes(10));
+		ReflectionTestUtils.setField(cartRedisService, "claimTtl", Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(cartRedisService, "codecFormat", format);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"json", "compact"})
+	@DisplayName("이미 담긴 상품을 다시 담으면 수량이 누적된다")
+	void addExistingItem_AccumulatesQuantity(String format) {
+		useCodec(format);
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 2);
+
+		List<RedisCartItem> items = cartRedisService.addCartItem(userId, menuId1, storeId1, 3);
+
+		assertThat(items).hasSize(1);
+		assertThat(items.get(0).getMenuId()).isEqualTo(menuId1);
+		assertThat(items.get(0).getQuantity()).isEqualTo(5);
+		assertThat(cartRedisService.getCartFromRedis(userId))
+			.extracting(RedisCartItem::getQuantity).containsExactly(5);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"json", "compact"})
+	@DisplayName("다른 매장 상품을 담으면 장바구니를 비우고 새 상품만 담는다")
+	void addItemFromDifferentStore_ResetsCart(String format) {
+		useCodec(format);
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 2);
+
+		List<RedisCartItem> items = cartRedisService.addCartItem(userId, menuId2, storeId2, 1);
+
+		assertThat(items).hasSize(1);
+		assertThat(items.get(0).getMenuId()).isEqualTo(menuId2);
+		assertThat(items.get(0).getStoreId()).isEqualTo(storeId2);
+		assertThat(items.get(0).getQuantity()).isEqualTo(1);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"json", "compact"})
+	@DisplayName("수량 변경은 담겨 있는 상품만 바꾸고, 없는 상품은 추가하지 않는다")
+	void setQuantity(String format) {
+		useCodec(format);
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 2);
+
+		List<RedisCartItem> updated = cartRedisService.updateCartItemQuantity(userId, menuId1, 7);
+		List<RedisCartItem> missing = cartRedisService.updateCartItemQuantity(userId, menuId2, 3);
+
+		assertThat(updated).extracting(RedisCartItem::getQuantity).containsExactly(7);
+		assertThat(missing).extracting(RedisCartItem::getMenuId).containsExactly(menuId1);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"json", "compact"})
+	@DisplayName("마지막 상품을 지워도 빈 장바구니(_meta)로 남는다")
+	void removeLastItem_KeepsEmptyCart(String format) {
+		useCodec(format);
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 2);
+
+		cartRedisService.removeCartItem(userId, menuId1);
+
+		assertThat(cartRedisService.existsCartInRedis(userId)).isTrue();
+		assertThat(cartRedisService.getCartFromRedis(userId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("변경 스크립트는 장바구니와 같은 슬롯의 dirty 집합에 표시하고 popDirtyCarts 로 한 번만 꺼낸다")
+	void markDirtyInSameSlot() {
+		useCodec("json");
+		Long otherUserId = 18L;
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 1);
+		cartRedisService.addCartItem(otherUserId, menuId1, storeId1, 1);
+
+		Set<String> dirtyKeys = redisTemplate.keys("cart-dirty:*");
+		assertThat(dirtyKeys).hasSize(2);
+		for (String dirtyKey : dirtyKeys) {
+			for (String cartKey : redisTemplate.opsForSet().members(dirtyKey)) {
+				assertThat(ClusterSlotHashUtil.calculateSlot(cartKey)).isEqualTo(ClusterSlotHashUtil.calculateSlot(dirtyKey));
+			}
+		}
+		assertThat(redisTemplate.hasKey("cart:{1}")).isTrue();
+		assertThat(cartRedisService.popDirtyCarts(10)).containsExactlyInAnyOrder(userId, otherUserId);
+		assertThat(cartRedisService.popDirtyCarts(10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("popDirtyCarts 는 count 만큼만 꺼내고 나머지는 다음 호출에서 꺼낸다")
+	void popDirtyCartsRespectsCount() {
+		useCodec("json");
+		for (long id = 1; id <= 5; id++) {
+			cartRedisService.addCartItem(id, menuId1, storeId1, 1);
+		}
+
+		List<Long> first = cartRedisService.popDirtyCarts(3);
+		List<Long> rest = cartRedisService.popDirtyCarts(10);
+
+		assertThat(first).hasSize(3);
+		assertThat(rest).hasSize(2).doesNotContainAnyElementsOf(first);
+	}
+
+	@Test
+	@DisplayName("이전 형식 dirty 집합에 남은 항목도 꺼낸다")
+	void popLegacyDirtySets() {
+		useCodec("json");
+		redisTemplate.opsForSet().add("carts:dirty", "cart:7");
+		redisTemplate.opsForSet().add("carts:dirty:{3}", "cart:{3}:19");
+
+		assertThat(cartRedisService.popDirtyCarts(10)).containsExactlyInAnyOrder(7L, 19L);
+	}
+
+	@Test
+	@DisplayName("이전 형식 키는 TTL 을 유지한 채 사용자별 키로 옮기고 dirty 로 표시한다")
+	void migrateLegacyKeys() {
+		useCodec("json");
+		redisTemplate.opsForHash().put("cart:{3}:19", "_meta", storeId1.toString());
+		redisTemplate.expire("cart:{3}:19", Duration.ofMinutes(5));
+		redisTemplate.opsForValue().set("cart-ttl:{3}:19", "1", Duration.ofMinutes(4));
+		redisTemplate.opsForHash().put("cart:7", "_meta", "");
+		CartLayoutMigrator migrator = new CartLayoutMigrator(redisTemplate, new CartKeyScanner(redisTemplate));
+		ReflectionTestUtils.setField(migrator, "enabled", true);
+
+		migrator.run(null);
+
+		assertThat(redisTemplate.keys("cart:*")).containsExactlyInAnyOrder("cart:{19}", "cart:{7}");
+		assertThat(redisTemplate.getExpire("cart:{19}", TimeUnit.MILLISECONDS)).isPositive();
+		assertThat(redisTemplate.hasKey("cart-ttl:{19}")).isTrue();
+		assertThat(redisTemplate.hasKey("cart-ttl:{3}:19")).isFalse();
+		assertThat(redisTemplate.opsForHash().get("cart:{19}", "_meta")).isEqualTo(storeId1.toString());
+		assertThat(cartRedisService.popDirtyCarts(10)).containsExactlyInAnyOrder(7L, 19L);
+	}
+
+	@Test
+	@DisplayName("DB 에서 읽어 올린 장바구니는 dirty 로 표시하지 않고, 저장은 표시한다")
+	void loadFromDbIsNotDirty() {
+		useCodec("json");
+		List<RedisCartItem> items = List.of(
+			RedisCartItem.builder().menuId(menuId1).storeId(storeId1).quantity(2).build());
+
+		cartRedisService.loadCartToRedis(userId, items);
+
+		assertThat(cartRedisService.getCartFromRedis(userId)).hasSize(1);
+		assertThat(cartRedisService.popDirtyCarts(10)).isEmpty();
+
+		cartRedisService.saveCartToRedis(userId, items);
+
+		assertThat(cartRedisService.popDirtyCarts(10)).containsExactly(userId);
+	}
+
+	@Test
+	@DisplayName("만료 장바구니를 가져가도 DB 반영이 끝날 때까지 장바구니와 dirty 표시를 남기고, 완료 후에 지운다")
+	void expireClaimKeepsCartUntilComplete() {
+		useCodec("json");
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 2);
+
+		assertThat(cartRedisService.claimExpiredCart(userId)).hasValueSatisfying(items -> assertThat(items).hasSize(1));
+		// 다른 파드는 같은 장바구니를 가져가지 못한다
+		assertThat(cartRedisService.claimExpiredCart(userId)).isEmpty();
+		assertThat(redisTemplate.hasKey("cart:{1}")).isTrue();
+		assertThat(redisTemplate.keys("cart-dirty:*")).hasSize(1);
+
+		cartRedisService.completeExpiredCart(userId);
+
+		assertThat(redisTemplate.hasKey("cart:{1}")).isFalse();
+		assertThat(redisTemplate.hasKey("cart-claim:{1}")).isFalse();
+		assertThat(cartRedisService.popDirtyCarts(10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("DB 반영 전에 claim 이 만료되면 남아 있는 장바구니를 다시 가져갈 수 있다")
+	void expiredClaimCanBeRetried() {
+		useCodec("json");
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 2);
+		cartRedisService.claimExpiredCart(userId);
+
+		// 저장 중 파드가 죽어 claim 키가 만료된 상황
+		redisTemplate.delete("cart-claim:{1}");
+
+		assertThat(cartRedisService.claimExpiredCart(userId)).hasValueSatisfying(items -> assertThat(items).hasSize(1));
+		assertThat(cartRedisService.popDirtyCarts(10)).containsExactly(userId);
+	}
+
+	@Test
+	@DisplayName("가져간 뒤 사용자가 다시 장바구니를 쓰면 완료 처리에서 지우지 않는다")
+	void completeKeepsReusedCart() {
+		useCodec("json");
+		ReflectionTestUtils.setField(cartRedisService, "persistOnExpiry", true);
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 2);
+		redisTemplate.delete("cart-ttl:{1}");
+		cartRedisService.claimExpiredCart(userId);
+
+		cartRedisService.addCartItem(userId, menuId2, storeId1, 1);
+		cartRedisService.completeExpiredCart(userId);
+
+		assertThat(cartRedisService.getCartFromRedis(userId)).hasSize(2);
+		assertThat(cartRedisService.popDirtyCarts(10)).containsExactly(userId);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	@DisplayName("만료 시 저장을 쓸 때만 세션 표시 키를 만들고 데이터 TTL 에 유예를 더한다")
+	void ttlMarkerOnlyWhenPersistOnExpiry(boolean persistOnExpiry) {
+		useCodec("json");
+		ReflectionTestUtils.setField(cartRedisService, "persistOnExpiry", persistOnExpiry);
+
+		cartRedisService.addCartItem(userId, menuId1, storeId1, 1);
+
+		long dataTtl = redisTemplate.getExpire("cart:{1}", TimeUnit.MILLISECONDS);
+		assertThat(redisTemplate.hasKey("cart-ttl:{1}")).isEqualTo(persistOnExpiry);
+		if (persistOnExpiry) {
+			assertThat(dataTtl).isGreaterThan(Duration.ofMinutes(30).toMillis());
+		} else {
+			assertThat(dataTtl).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(30).toMillis());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import app.domain.order.internal.InternalOrderController;
+import app.domain.order.internal.InternalOrderService;
+
+@DisplayName("InternalOrderController 테스트")
+class InternalOrderControllerTest {
+
+	private MockMvc mockMvc;
+	private InternalOrderService internalOrderService;
+
+	@BeforeEach
+	void setUp() {
+		internalOrderService = mock(InternalOrderService.class);
+		InternalOrderController controller = new InternalOrderController(internalOrderService);
+		ReflectionTestUtils.setField(controller, "exportTimeout", Duration.ofMinutes(10));
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	@DisplayName("매장 주문 내보내기 - 이 요청에만 내보내기 타임아웃을 걸고 NDJSON 으로 스트리밍한다")
+	void exportOrders_UsesPerEndpointTimeout() throws Exception {
+		UUID storeId = UUID.randomUUID();
+		doAnswer(invocation -> {
+			OutputStream out = invocation.getArgument(3);
+			out.write("{\"a\":1}\n{\"a\":2}\n".getBytes(StandardCharsets.UTF_8));
+			return 2L;
+		}).when(internalOrderService).exportOrdersByStoreId(eq(storeId), isNull(), isNull(), any());
+
+		MvcResult result = mockMvc.perform(get("/internal/order/store/{storeId}/export", storeId))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+			.andExpect(content().string("{\"a\":1}\n{\"a\":2}\n"));
+	}
+}
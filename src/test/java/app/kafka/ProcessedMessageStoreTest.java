@@ -0,0 +1,64 @@
+package app.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.domain.order.kafka.ProcessedMessageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ProcessedMessageStore Test")
+class ProcessedMessageStoreTest {
+
+	private ValueOperations<String, String> valueOps;
+	private ProcessedMessageStore store;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		valueOps = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOps);
+		store = new ProcessedMessageStore(redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(store, "enabled", true);
+	}
+
+	@Test
+	@DisplayName("배치 중복 확인은 Redis 를 한 번만 조회한다")
+	void processedOf_SingleRoundTrip() {
+		when(valueOps.multiGet(anyCollection())).thenReturn(Arrays.asList("1", null, "1"));
+
+		Set<String> processed = store.processedOf(List.of("a", "b", "c"));
+
+		assertThat(processed).containsExactlyInAnyOrder("a", "c");
+		verify(valueOps, times(1)).multiGet(List.of("processed:a", "processed:b", "processed:c"));
+	}
+
+	@Test
+	@DisplayName("한 번 확인된 키는 다음 배치에서 로컬 캐시로 걸러진다")
+	void processedOf_UsesLocalCache() {
+		when(valueOps.multiGet(anyCollection())).thenReturn(Arrays.asList("1", null));
+		store.processedOf(List.of("a", "b"));
+
+		when(valueOps.multiGet(List.of("processed:b"))).thenReturn(Arrays.asList((String)null));
+		Set<String> processed = store.processedOf(List.of("a", "b"));
+
+		assertThat(processed).containsExactly("a");
+		verify(valueOps).multiGet(List.of("processed:b"));
+	}
+}
@@ -0,0 +1,90 @@
+package app.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.order.kafka.event.OrderCompletedEvent;
+import app.domain.order.kafka.event.OrderStockItem;
+import app.domain.order.kafka.event.OrderValidEvent;
+import app.domain.order.kafka.event.OrderValidatedItem;
+import app.domain.order.kafka.event.PaymentResultEvent;
+import app.domain.order.kafka.event.SagaEventCodec;
+import app.global.config.JacksonConfig;
+
+@DisplayName("SagaEventCodec Test")
+class SagaEventCodecTest {
+
+	private ObjectMapper objectMapper;
+	private SagaEventCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new JacksonConfig().objectMapper();
+		codec = new SagaEventCodec(objectMapper);
+	}
+
+	@Test
+	@DisplayName("기존 Map 페이로드와 같은 JSON 필드로 인코딩")
+	void write_KeepsWireFormat() throws Exception {
+		UUID orderId = UUID.randomUUID();
+		String json = codec.write(new OrderValidEvent(1L, orderId, 15000L));
+
+		Map<String, Object> map = objectMapper.readValue(json, Map.class);
+		assertThat(map).containsEntry("userId", 1)
+			.containsEntry("orderId", orderId.toString())
+			.containsEntry("totalPrice", 15000);
+	}
+
+	@Test
+	@DisplayName("LocalDateTime 은 ISO 문자열로 인코딩")
+	void write_DateAsIsoString() throws Exception {
+		LocalDateTime time = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+		String json = codec.write(new OrderCompletedEvent(UUID.randomUUID(), time, 1000L));
+
+		assertThat(objectMapper.readTree(json).get("orderTime").asText()).isEqualTo("2025-01-02T03:04:05");
+	}
+
+	@Test
+	@DisplayName("목록 디코딩 - 문자열 숫자와 모르는 필드 허용")
+	void readList_LenientNumbersAndUnknownFields() {
+		String json = """
+			[{"menuName":"치킨","price":"18000","quantity":2,"menuId":"x"},
+			 {"menuName":"콜라","price":2000,"quantity":"1"}]
+			""";
+
+		List<OrderValidatedItem> items = codec.readList(json, OrderValidatedItem.class);
+
+		assertThat(items).containsExactly(
+			new OrderValidatedItem("치킨", 18000L, 2),
+			new OrderValidatedItem("콜라", 2000L, 1));
+	}
+
+	@Test
+	@DisplayName("목록 인코딩 후 다시 디코딩")
+	void writeList_RoundTrip() {
+		List<OrderStockItem> items = List.of(new OrderStockItem(UUID.randomUUID(), 3));
+
+		String json = codec.writeList(items, OrderStockItem.class);
+
+		assertThat(codec.readList(json, OrderStockItem.class)).isEqualTo(items);
+	}
+
+	@Test
+	@DisplayName("잘못된 JSON 은 GeneralException")
+	void read_InvalidJson() {
+		assertThatThrownBy(() -> codec.read("{not-json", PaymentResultEvent.class))
+			.isInstanceOf(GeneralException.class);
+	}
+}
@@ -0,0 +1,57 @@
+package app.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.commonUtil.apiPayload.code.status.SuccessStatus;
+import app.domain.order.client.InternalStoreClient;
+import app.domain.order.model.dto.response.MenuInfoResponse;
+import app.domain.order.service.MenuInfoCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuInfoCache Test")
+class MenuInfoCacheTest {
+
+	@Mock
+	private InternalStoreClient internalStoreClient;
+
+	private MenuInfoCache menuInfoCache;
+	private final UUID menuId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		menuInfoCache = new MenuInfoCache(internalStoreClient, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+		ReflectionTestUtils.setField(menuInfoCache, "enabled", true);
+	}
+
+	@Test
+	@DisplayName("캐시된 메뉴는 다시 조회하지 않고, refresh 는 매장 서비스에서 새 가격을 읽어 캐시를 갱신한다")
+	void refreshBypassesCache() {
+		when(internalStoreClient.getMenuInfoList(List.of(menuId)))
+			.thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, List.of(new MenuInfoResponse(menuId, "메뉴", 1000L))))
+			.thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, List.of(new MenuInfoResponse(menuId, "메뉴", 1200L))));
+
+		assertThat(menuInfoCache.getAll(List.of(menuId)).get(menuId).getPrice()).isEqualTo(1000L);
+		assertThat(menuInfoCache.getAll(List.of(menuId)).get(menuId).getPrice()).isEqualTo(1000L);
+		assertThat(menuInfoCache.refresh(List.of(menuId)).get(menuId).getPrice()).isEqualTo(1200L);
+		assertThat(menuInfoCache.getAll(List.of(menuId)).get(menuId).getPrice()).isEqualTo(1200L);
+
+		verify(internalStoreClient, times(2)).getMenuInfoList(List.of(menuId));
+	}
+}
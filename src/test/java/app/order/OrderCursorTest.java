@@ -0,0 +1,41 @@
+package app.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.order.model.dto.request.OrderCursor;
+
+@DisplayName("OrderCursor Test")
+class OrderCursorTest {
+
+	@Test
+	@DisplayName("인코딩한 커서는 같은 (createdAt, ordersId) 로 복원된다")
+	void roundTrip() {
+		OrderCursor cursor = new OrderCursor(LocalDateTime.of(2025, 8, 1, 12, 30, 15, 123_456_000), UUID.randomUUID());
+
+		OrderCursor decoded = OrderCursor.decode(cursor.encode());
+
+		assertThat(decoded).isEqualTo(cursor);
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지(null)")
+	void blankIsFirstPage() {
+		assertThat(OrderCursor.decode(null)).isNull();
+		assertThat(OrderCursor.decode(" ")).isNull();
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 커서는 GeneralException")
+	void invalidCursor() {
+		assertThatThrownBy(() -> OrderCursor.decode("not-a-cursor"))
+			.isInstanceOf(GeneralException.class);
+	}
+}
@@ -0,0 +1,112 @@
+package app.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.order.model.dto.response.OrderInfoResponse;
+import app.domain.order.service.OrderDetailCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 두 파드(OrderDetailCache 인스턴스)가 같은 Redis 를 쓰는 상황에서 Redis 계층의 버전 확인 쓰기를 검증한다.
+ * pub/sub 은 끄고(리스너 컨테이너 mock) Redis 계층만 본다. Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OrderDetailCache Test")
+class OrderDetailCacheTest {
+
+	@Container
+	@SuppressWarnings("resource")
+	private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> redisTemplate;
+
+	private final UUID orderId = UUID.randomUUID();
+	private OrderDetailCache podA;
+	private OrderDetailCache podB;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		podA = newPod();
+		podB = newPod();
+	}
+
+	private OrderDetailCache newPod() {
+		OrderDetailCache cache = new OrderDetailCache(redisTemplate, new ObjectMapper().findAndRegisterModules(),
+			mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(), 100, Duration.ofSeconds(10));
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "redisTtl", Duration.ofMinutes(1));
+		return cache;
+	}
+
+	private OrderInfoResponse info(String status) {
+		return new OrderInfoResponse(orderId, UUID.randomUUID(), 1L, 1000L, status, null, "CREDIT_CARD", true);
+	}
+
+	@Test
+	@DisplayName("한 파드가 채운 Redis 값은 다른 파드가 DB 조회 없이 재사용한다")
+	void redisTierIsShared() {
+		podA.getInfo(orderId, () -> info("PENDING"));
+
+		OrderInfoResponse fromB = podB.getInfo(orderId, () -> {
+			throw new AssertionError("Redis 에 있어야 한다");
+		});
+
+		assertThat(fromB.getOrderStatus()).isEqualTo("PENDING");
+	}
+
+	@Test
+	@DisplayName("조회 도중 다른 파드가 무효화하면 DB 에서 읽은 이전 값을 Redis 에 쓰지 않는다")
+	void staleLoadIsNotWrittenToRedis() {
+		OrderInfoResponse stale = podA.getInfo(orderId, () -> {
+			// 이전 상태를 읽은 직후 다른 파드에서 주문이 바뀌고 커밋 후 무효화된다
+			OrderInfoResponse old = info("PENDING");
+			podB.evict(orderId);
+			return old;
+		});
+
+		assertThat(stale.getOrderStatus()).isEqualTo("PENDING");
+		assertThat(redisTemplate.hasKey("order:info:{" + orderId + "}")).isFalse();
+		assertThat(podB.getInfo(orderId, () -> info("ACCEPTED")).getOrderStatus()).isEqualTo("ACCEPTED");
+		assertThat(redisTemplate.hasKey("order:info:{" + orderId + "}")).isTrue();
+	}
+}
@@ -0,0 +1,130 @@
+package app.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import app.commonUtil.security.TokenPrincipalParser;
+import app.domain.cart.service.CartService;
+import app.domain.order.client.InternalStoreClient;
+import app.domain.order.kafka.OutboxNotifier;
+import app.domain.order.kafka.event.SagaEventCodec;
+import app.domain.order.kafka.repository.OutboxRepository;
+import app.domain.order.model.dto.response.CursorPageResponse;
+import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusHistoryRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderDelayService;
+import app.domain.order.service.OrderDetailCache;
+import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderStatusRecorder;
+import app.global.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 주문 목록 페이지가 실제로 몇 개의 SQL 을 보내는지 Hibernate 통계로 확인한다 (N+1 회귀 방지).
+ * Docker 가 없으면 건너뛴다.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order page query count Test")
+class OrderPageQueryCountTest {
+
+	@Container
+	@ServiceConnection
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private OrderService orderService;
+	private Statistics statistics;
+	private final Long userId = 1L;
+
+	@BeforeEach
+	void setUp() {
+		orderService = new OrderService(ordersRepository, orderItemRepository, mock(CartService.class),
+			mock(OrderDelayService.class), mock(SagaEventCodec.class), mock(InternalStoreClient.class),
+			mock(TokenPrincipalParser.class), mock(OutboxRepository.class), mock(OutboxNotifier.class),
+			mock(OrderDetailCache.class), mock(OrderStatusHistoryRepository.class), mock(OrderStatusRecorder.class));
+
+		for (int i = 0; i < 25; i++) {
+			Orders order = ordersRepository.save(Orders.builder()
+				.userId(userId)
+				.storeId(UUID.randomUUID())
+				.totalPrice(2000L)
+				.deliveryAddress("서울시 종로구")
+				.paymentMethod(PaymentMethod.CREDIT_CARD)
+				.orderChannel(OrderChannel.ONLINE)
+				.receiptMethod(ReceiptMethod.DELIVERY)
+				.orderStatus(OrderStatus.COMPLETED)
+				.isRefundable(false)
+				.orderHistory("pending")
+				.build());
+			for (int j = 0; j < 2; j++) {
+				orderItemRepository.save(OrderItem.builder()
+					.orders(order)
+					.menuName("메뉴" + j)
+					.price(1000L)
+					.quantity(1)
+					.build());
+			}
+		}
+		// 저장한 엔티티가 영속성 컨텍스트에서 재사용되지 않도록 비우고 통계를 새로 시작한다
+		entityManager.flush();
+		entityManager.clear();
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("20건 주문 페이지는 주문 조회 1번 + 주문 상품 IN 조회 1번으로 끝난다")
+	void cursorPage_UsesTwoStatements() {
+		CursorPageResponse<OrderDetailResponse> first = orderService.getCustomerOrderListByCursor(userId, null, 20);
+
+		assertThat(first.getContent()).hasSize(20);
+		assertThat(first.getContent()).allSatisfy(order -> assertThat(order.getMenuList()).hasSize(2));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+		statistics.clear();
+		CursorPageResponse<OrderDetailResponse> next =
+			orderService.getCustomerOrderListByCursor(userId, first.getNextCursor(), 20);
+
+		assertThat(next.getContent()).hasSize(5);
+		assertThat(next.isHasNext()).isFalse();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,106 @@
+package app.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import app.domain.order.model.repository.OrderSchemaInitializer;
+
+/**
+ * 기동 DDL 은 try-lock 으로만 기다리고, 인덱스는 기동 뒤 백그라운드에서 만드는지 실제 PostgreSQL 로 확인한다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OrderSchemaInitializer Test")
+class OrderSchemaInitializerTest {
+
+	// SchemaInitializer 의 advisory lock namespace ("schm")
+	private static final int LOCK_NAMESPACE = 0x7363686d;
+
+	@Container
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private OrderSchemaInitializer initializer;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS p_order_status_history, p_orders");
+		jdbcTemplate.execute("CREATE TABLE p_orders (orders_id uuid PRIMARY KEY, user_id bigint, store_id uuid,"
+			+ " created_at timestamp(6))");
+
+		initializer = new OrderSchemaInitializer(jdbcTemplate, true);
+		ReflectionTestUtils.setField(initializer, "lockWait", Duration.ofMillis(500));
+		ReflectionTestUtils.setField(initializer, "indexBuildEnabled", true);
+	}
+
+	private List<String> indexes() {
+		return jdbcTemplate.queryForList(
+			"SELECT indexname FROM pg_indexes WHERE indexname LIKE 'ix_order%' ORDER BY indexname", String.class);
+	}
+
+	@Test
+	@DisplayName("기동 단계는 테이블만 만들고, 인덱스는 기동 뒤 백그라운드에서 만든다")
+	void tablesAtStartupIndexesAfterReady() throws Exception {
+		initializer.afterPropertiesSet();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('p_order_status_history') IS NOT NULL", Boolean.class))
+			.isTrue();
+		assertThat(indexes()).isEmpty();
+
+		initializer.buildIndexes();
+
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (indexes().size() < 3 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(indexes()).containsExactly(
+			"ix_order_status_history_order_changed", "ix_orders_store_created_id", "ix_orders_user_created_id");
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 기동 DDL 잠금을 쥐고 있으면 대기 시간 뒤 실패한다 (무기한 대기하지 않는다)")
+	void failsFastWhenDdlLockHeld() throws Exception {
+		try (Connection holder = dataSource.getConnection(); Statement st = holder.createStatement()) {
+			st.execute("SELECT pg_advisory_lock(" + LOCK_NAMESPACE + ", 0)");
+
+			long start = System.nanoTime();
+			assertThatThrownBy(initializer::afterPropertiesSet)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("schema lock not acquired");
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		}
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 인덱스를 만들고 있으면 이번 기동은 인덱스 빌드를 건너뛴다")
+	void skipsIndexBuildWhenIndexLockHeld() throws Exception {
+		initializer.afterPropertiesSet();
+
+		try (Connection holder = dataSource.getConnection(); Statement st = holder.createStatement()) {
+			st.execute("SELECT pg_advisory_lock(" + LOCK_NAMESPACE + ", 1)");
+
+			initializer.buildIndexes();
+			Thread.sleep(1000);
+
+			assertThat(indexes()).isEmpty();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package app.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.order.internal.InternalOrderService;
+import app.domain.order.model.entity.OrderStatusHistory;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusHistoryRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderDetailCache;
+import app.domain.order.service.OrderStatusRecorder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatusRecorder Test")
+class OrderStatusRecorderTest {
+
+	@Mock
+	private OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+	@Mock
+	private OrdersRepository ordersRepository;
+
+	private OrderStatusRecorder orderStatusRecorder;
+	private final UUID orderId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		orderStatusRecorder = new OrderStatusRecorder(orderStatusHistoryRepository);
+	}
+
+	private Orders order(OrderStatus status) {
+		return Orders.builder().ordersId(orderId).userId(1L).orderStatus(status).build();
+	}
+
+	private OrderStatusHistory savedHistory() {
+		ArgumentCaptor<OrderStatusHistory> captor = ArgumentCaptor.forClass(OrderStatusHistory.class);
+		verify(orderStatusHistoryRepository).save(captor.capture());
+		return captor.getValue();
+	}
+
+	@Test
+	@DisplayName("상태를 바꾸면 주문 상태가 바뀌고 같은 상태의 이력 한 행이 INSERT 된다")
+	void changeInsertsHistory() {
+		Orders order = order(OrderStatus.PENDING);
+
+		orderStatusRecorder.change(order, OrderStatus.ACCEPTED_READY);
+
+		assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.ACCEPTED_READY);
+		OrderStatusHistory history = savedHistory();
+		assertThat(history.getOrdersId()).isEqualTo(orderId);
+		assertThat(history.getState()).isEqualTo(OrderStatus.ACCEPTED_READY.name());
+		assertThat(history.getChangedAt()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("새 주문은 현재 상태로 첫 이력을 남긴다")
+	void createdInsertsInitialHistory() {
+		orderStatusRecorder.created(order(OrderStatus.PENDING));
+
+		OrderStatusHistory history = savedHistory();
+		assertThat(history.getOrdersId()).isEqualTo(orderId);
+		assertThat(history.getState()).isEqualTo(OrderStatus.PENDING.name());
+	}
+
+	@Test
+	@DisplayName("내부 상태 변경 API 도 이력을 남긴다")
+	void internalStatusUpdateInsertsHistory() {
+		Orders order = order(OrderStatus.ACCEPTED_READY);
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		InternalOrderService internalOrderService = new InternalOrderService(ordersRepository, new ObjectMapper(),
+			mock(OrderDetailCache.class), orderStatusHistoryRepository, orderStatusRecorder);
+
+		internalOrderService.updateOrderStatus(orderId, OrderStatus.COMPLETED.name());
+
+		assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.COMPLETED);
+		assertThat(savedHistory().getState()).isEqualTo(OrderStatus.COMPLETED.name());
+	}
+}
@@ -0,0 +1,125 @@
+package app.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import app.domain.order.model.repository.OrdersRepository;
+
+/**
+ * 커서 이후 페이지 쿼리가 (user_id|store_id, created_at, orders_id) 인덱스의 Index Cond 로
+ * 행 값 비교를 처리하는지 실제 PostgreSQL 실행 계획으로 확인한다. Docker 가 없으면 건너뛴다.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector=app.order.OrdersKeysetPlanTest$LastSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Orders keyset plan Test")
+class OrdersKeysetPlanTest {
+
+	@Container
+	@ServiceConnection
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private final LocalDateTime createdAt = LocalDateTime.of(2025, 8, 1, 12, 0);
+	private final UUID ordersId = UUID.randomUUID();
+
+	@Test
+	@DisplayName("고객 주문 커서 쿼리는 행 값 비교가 인덱스 조건(Index Cond)에 들어간다")
+	void customerPage_SeeksWithRowComparison() throws Exception {
+		ordersRepository.findByUserIdAfter(1L, createdAt, ordersId, PageRequest.of(0, 21));
+
+		assertSeek(LastSql.get(), 1L);
+	}
+
+	@Test
+	@DisplayName("배달 주문 커서 쿼리는 행 값 비교가 인덱스 조건(Index Cond)에 들어간다")
+	void deliveryPage_SeeksWithRowComparison() throws Exception {
+		ordersRepository.findDeliveryOrdersByUserIdAfter(1L, createdAt, ordersId, PageRequest.of(0, 21));
+
+		assertSeek(LastSql.get(), 1L);
+	}
+
+	@Test
+	@DisplayName("매장 주문 커서 쿼리는 행 값 비교가 인덱스 조건(Index Cond)에 들어간다")
+	void storePage_SeeksWithRowComparison() throws Exception {
+		ordersRepository.findByStoreIdAfter(UUID.randomUUID(), createdAt, ordersId, PageRequest.of(0, 21));
+
+		assertSeek(LastSql.get(), UUID.randomUUID());
+	}
+
+	// Hibernate 가 만든 SQL 을 같은 파라미터로 EXPLAIN. 빈 테이블이라 순차 스캔을 꺼 인덱스 사용 가능 여부만 본다
+	private void assertSeek(String sql, Object owner) throws Exception {
+		List<String> plan = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement st = connection.createStatement()) {
+				st.execute("set enable_seqscan = off");
+			}
+			try (PreparedStatement ps = connection.prepareStatement("explain " + sql)) {
+				int params = ps.getParameterMetaData().getParameterCount();
+				ps.setObject(1, owner);
+				ps.setObject(2, createdAt);
+				ps.setObject(3, ordersId);
+				for (int i = 4; i <= params; i++) {
+					ps.setInt(i, 21);
+				}
+				try (ResultSet rs = ps.executeQuery()) {
+					while (rs.next()) {
+						plan.add(rs.getString(1));
+					}
+				}
+			}
+		}
+
+		assertThat(plan).as(String.join("\n", plan))
+			.anySatisfy(line -> assertThat(line)
+				.contains("Index Cond")
+				.contains("ROW(created_at, orders_id) < ROW("));
+	}
+
+	public static class LastSql implements StatementInspector {
+
+		private static volatile String last;
+
+		static String get() {
+			return last;
+		}
+
+		@Override
+		public String inspect(String sql) {
+			if (sql.contains("p_orders")) {
+				last = sql;
+			}
+			return sql;
+		}
+	}
+}
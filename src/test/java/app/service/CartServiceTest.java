@@ -24,6 +24,7 @@ import app.domain.cart.model.entity.Cart;
 import app.domain.cart.model.entity.CartItem;
 import app.domain.cart.model.repository.CartItemRepository;
 import app.domain.cart.model.repository.CartRepository;
+import app.domain.cart.service.CartLoadCoordinator;
 import app.domain.cart.service.CartRedisService;
 import app.domain.cart.service.CartService;
 
@@ -47,6 +48,9 @@ class CartServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private CartLoadCoordinator cartLoadCoordinator;
+
     @InjectMocks
     private CartService cartService;
 
@@ -67,80 +71,60 @@ class CartServiceTest {
         cartItems = new ArrayList<>();
     }
 
-    @Test
-    @DisplayName("장바구니에 새로운 아이템을 추가할 수 있다")
-    void addItem() {
-        AddCartItemRequest request = new AddCartItemRequest(menuId1, storeId1, 2);
-        when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-        when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-        when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-        when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
-
-        cartService.addCartItem(authentication, request);
-
-        verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-            items.size() == 1 &&
-                items.get(0).getMenuId().equals(menuId1) &&
-                items.get(0).getStoreId().equals(storeId1) &&
-                items.get(0).getQuantity() == 2
-        ));
+    // single-flight 조정자는 넘겨받은 로더를 그대로 실행하는 것으로 대체
+    private void runLoaderInline() {
+        doAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return null;
+        }).when(cartLoadCoordinator).load(eq(userId), any());
     }
 
     @Test
-    @DisplayName("이미 존재하는 아이템을 추가하면 수량이 누적된다")
-    void addExistingItem() {
+    @DisplayName("장바구니에 아이템을 추가하면 Redis 에 증분 추가를 요청한다")
+    void addItem() {
         AddCartItemRequest request = new AddCartItemRequest(menuId1, storeId1, 2);
-        cartItems.add(RedisCartItem.builder().menuId(menuId1).storeId(storeId1).quantity(1).build());
-
         when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
         when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-        when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-        when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+        when(cartRedisService.addCartItem(userId, menuId1, storeId1, 2)).thenReturn(List.of(
+            RedisCartItem.builder().menuId(menuId1).storeId(storeId1).quantity(2).build()));
 
         cartService.addCartItem(authentication, request);
 
-        verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-            items.get(0).getMenuId().equals(menuId1) &&
-                items.get(0).getStoreId().equals(storeId1) &&
-                items.get(0).getQuantity() == 3
-        ));
+        verify(cartRedisService).addCartItem(userId, menuId1, storeId1, 2);
+        verify(cartRedisService, never()).getCartFromRedis(any());
+        verify(cartRedisService, never()).loadCartToRedis(any(), any());
     }
 
     @Test
-    @DisplayName("다른 매장의 아이템을 추가하면 기존 장바구니가 초기화된다")
-    void addDifferentStoreItem() {
+    @DisplayName("Redis 에 장바구니가 없으면 DB 에서 로드한 뒤 아이템을 추가한다")
+    void addItemLoadsCartFirst() {
         AddCartItemRequest request = new AddCartItemRequest(menuId1, storeId1, 2);
-        cartItems.add(RedisCartItem.builder().menuId(menuId2).storeId(storeId2).quantity(1).build());
-
+        Cart cart = Cart.builder().cartId(UUID.randomUUID()).userId(userId).build();
         when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-        when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-        when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-        when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+        when(cartRedisService.existsCartInRedis(userId)).thenReturn(false);
+        when(cartRepository.findByUserId(userId)).thenReturn(Optional.of(cart));
+        when(cartItemRepository.findByCart_CartId(cart.getCartId())).thenReturn(List.of());
+        runLoaderInline();
 
         cartService.addCartItem(authentication, request);
 
-        verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-            items.size() == 1 &&
-                items.get(0).getStoreId().equals(storeId1)
-        ));
+        var inOrder = inOrder(cartRedisService);
+        inOrder.verify(cartRedisService).loadCartToRedis(eq(userId), any());
+        inOrder.verify(cartRedisService).addCartItem(userId, menuId1, storeId1, 2);
     }
 
     @Test
-    @DisplayName("장바구니 아이템의 수량을 수정할 수 있다")
+    @DisplayName("장바구니 아이템의 수량을 수정하면 Redis 에 해당 메뉴만 변경을 요청한다")
     void updateItem() {
-        cartItems.add(RedisCartItem.builder().menuId(menuId1).storeId(storeId1).quantity(1).build());
         when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
         when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
-        when(cartRedisService.getCartFromRedis(userId)).thenReturn(cartItems);
-        when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+        when(cartRedisService.updateCartItemQuantity(userId, menuId1, 5)).thenReturn(List.of(
+            RedisCartItem.builder().menuId(menuId1).storeId(storeId1).quantity(5).build()));
 
         cartService.updateCartItem(authentication, menuId1, 5);
 
-        verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
-            items.get(0).getMenuId().equals(menuId1) &&
-                items.get(0).getStoreId().equals(storeId1) &&
-                items.get(0).getQuantity() == 5
-        ));
+        verify(cartRedisService).updateCartItemQuantity(userId, menuId1, 5);
+        verify(cartRedisService, never()).loadCartToRedis(any(), any());
     }
 
     @Test
@@ -165,7 +149,21 @@ class CartServiceTest {
         List<RedisCartItem> result = cartService.getCartFromCache(authentication);
 
         assertThat(result).isEqualTo(cartItems);
-        verify(cartRedisService, never()).saveCartToRedis(any(), any());
+        verify(cartRedisService, never()).loadCartToRedis(any(), any());
+    }
+
+    @Test
+    @DisplayName("주문용 조회는 near-cache 를 거치지 않고 Redis 에서 최신 장바구니를 읽는다")
+    void getForOrder() {
+        cartItems.add(RedisCartItem.builder().menuId(menuId1).storeId(storeId1).quantity(1).build());
+        when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
+        when(cartRedisService.existsCartInRedis(userId)).thenReturn(true);
+        when(cartRedisService.getLatestCartFromRedis(userId)).thenReturn(cartItems);
+
+        List<RedisCartItem> result = cartService.getCartForOrder(authentication);
+
+        assertThat(result).isEqualTo(cartItems);
+        verify(cartRedisService, never()).getCartFromRedis(any());
     }
 
     @Test
@@ -186,10 +184,11 @@ class CartServiceTest {
 
         when(cartRepository.findByUserId(userId)).thenReturn(Optional.of(cart));
         when(cartItemRepository.findByCart_CartId(cart.getCartId())).thenReturn(List.of(cartItem));
+        runLoaderInline();
 
         List<RedisCartItem> result = cartService.getCartFromCache(authentication);
 
-        verify(cartRedisService).saveCartToRedis(eq(userId), any());
+        verify(cartRedisService).loadCartToRedis(eq(userId), any());
         assertThat(result).isEqualTo(cartItems);
     }
 
@@ -221,11 +220,11 @@ class CartServiceTest {
 
         when(cartRepository.findByUserId(userId)).thenReturn(Optional.of(cart));
         when(cartItemRepository.findByCart_CartId(cart.getCartId())).thenReturn(List.of(cartItem));
-        when(cartRedisService.saveCartToRedis(eq(userId), any())).thenReturn("성공");
+        when(cartRedisService.loadCartToRedis(eq(userId), any())).thenReturn("성공");
 
         cartService.loadDbToRedis(userId);
 
-        verify(cartRedisService).saveCartToRedis(eq(userId), argThat(items ->
+        verify(cartRedisService).loadCartToRedis(eq(userId), argThat(items ->
             items.size() == 1 &&
                 items.get(0).getMenuId().equals(menuId1) &&
                 items.get(0).getStoreId().equals(storeId1) &&
@@ -239,7 +238,7 @@ class CartServiceTest {
         RedisCartItem redisItem = RedisCartItem.builder().menuId(menuId1).storeId(storeId1).quantity(3).build();
         Cart cart = Cart.builder().cartId(UUID.randomUUID()).userId(userId).build();
 
-        when(cartRedisService.getCartFromRedis(userId)).thenReturn(List.of(redisItem));
+        when(cartRedisService.getLatestCartFromRedis(userId)).thenReturn(List.of(redisItem));
         when(cartRepository.findByUserId(userId)).thenReturn(Optional.of(cart));
 
         cartService.syncRedisToDb(userId);
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -35,9 +40,12 @@ import app.domain.order.model.entity.enums.OrderChannel;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusHistoryRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.service.OrderDelayService;
+import app.domain.order.service.OrderDetailCache;
 import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderStatusRecorder;
 import app.domain.order.status.OrderErrorStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +74,15 @@ class OrderServiceTest {
 	@Mock
 	private Authentication authentication;
 
+	@Mock
+	private OrderDetailCache orderDetailCache;
+
+	@Mock
+	private OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+	@Mock
+	private OrderStatusRecorder orderStatusRecorder;
+
 	@InjectMocks
 	private OrderService orderService;
 
@@ -112,7 +129,7 @@ class OrderServiceTest {
 		Orders savedOrder = Orders.builder().ordersId(UUID.randomUUID()).build();
 
 		when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-		when(cartService.getCartFromCache(authentication)).thenReturn(cartItems);
+		when(cartService.getCartForOrder(authentication)).thenReturn(cartItems);
 		when(internalStoreClient.isStoreExists(storeId)).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, true));
 		when(internalStoreClient.getMenuInfoList(menuIds)).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, menuInfoResponseList));
 		when(internalStoreClient.decreaseStock(anyList())).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, true));
@@ -145,7 +162,7 @@ class OrderServiceTest {
 		List<UUID> menuIds=List.of(menuId);
 
 		when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-		when(cartService.getCartFromCache(authentication)).thenReturn(cartItems);
+		when(cartService.getCartForOrder(authentication)).thenReturn(cartItems);
 		when(internalStoreClient.isStoreExists(storeId)).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, false));
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(authentication,request))
@@ -180,7 +197,7 @@ class OrderServiceTest {
 		List<RedisCartItem> cartItems = List.of(cartItem1, cartItem2);
 
 		when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-		when(cartService.getCartFromCache(authentication)).thenReturn(cartItems);
+		when(cartService.getCartForOrder(authentication)).thenReturn(cartItems);
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(authentication,request))
@@ -202,7 +219,7 @@ class OrderServiceTest {
 		List<RedisCartItem> cartItems = List.of();
 
 		when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-		when(cartService.getCartFromCache(authentication)).thenReturn(cartItems);
+		when(cartService.getCartForOrder(authentication)).thenReturn(cartItems);
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(authentication,request))
@@ -240,7 +257,7 @@ class OrderServiceTest {
 		List<MenuInfoResponse> menuInfoResponseList = List.of(menuInfo);
 
 		when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-		when(cartService.getCartFromCache(authentication)).thenReturn(cartItems);
+		when(cartService.getCartForOrder(authentication)).thenReturn(cartItems);
 		when(internalStoreClient.isStoreExists(storeId)).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, true));
 		when(internalStoreClient.getMenuInfoList(menuIds)).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, menuInfoResponseList));
 
@@ -273,7 +290,7 @@ class OrderServiceTest {
 		List<UUID> menuIds=List.of(menuId);
 
 		when(tokenPrincipalParser.getUserId(any(Authentication.class))).thenReturn(String.valueOf(userId));
-		when(cartService.getCartFromCache(authentication)).thenReturn(cartItems);
+		when(cartService.getCartForOrder(authentication)).thenReturn(cartItems);
 		when(internalStoreClient.isStoreExists(storeId)).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, true));
 		when(internalStoreClient.getMenuInfoList(menuIds)).thenThrow(new GeneralException(ErrorStatus.MENU_NOT_FOUND));
 
@@ -291,6 +308,12 @@ class OrderServiceTest {
 		verify(ordersRepository, never()).save(any());
 	}
 
+	// 캐시 미스: 로더를 그대로 실행
+	private void loadDetailInline(UUID orderId) {
+		when(orderDetailCache.getDetail(eq(orderId), any()))
+			.thenAnswer(inv -> inv.<Supplier<OrderDetailResponse>>getArgument(1).get());
+	}
+
 	@Test
 	@DisplayName("주문 상세 조회 성공")
 	void getOrderDetail_Success() {
@@ -320,6 +343,7 @@ class OrderServiceTest {
 
 		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
 		when(orderItemRepository.findByOrders(order)).thenReturn(orderItems);
+		loadDetailInline(orderId);
 
 		// When
 		OrderDetailResponse result = orderService.getOrderDetail(orderId);
@@ -348,6 +372,7 @@ class OrderServiceTest {
 		UUID orderId = UUID.randomUUID();
 
 		when(ordersRepository.findById(orderId)).thenReturn(Optional.empty());
+		loadDetailInline(orderId);
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.getOrderDetail(orderId))
@@ -360,4 +385,35 @@ class OrderServiceTest {
 		verify(ordersRepository).findById(orderId);
 		verify(orderItemRepository, never()).findByOrders(any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("주문 내역 페이지 조회는 주문 수와 관계없이 주문 상품을 한 번만 조회한다")
+	void getCustomerOrderList_BatchFetchesItems() {
+		// Given
+		List<Orders> orders = new ArrayList<>();
+		List<OrderItem> items = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			Orders order = Orders.builder()
+				.ordersId(UUID.randomUUID())
+				.userId(userId)
+				.storeId(storeId)
+				.totalPrice(3000L)
+				.deliveryAddress("서울시 강남구")
+				.build();
+			orders.add(order);
+			items.add(OrderItem.builder().orders(order).menuName("메뉴" + i).price(3000L).quantity(1).build());
+		}
+		Pageable pageable = PageRequest.of(0, 20);
+		when(ordersRepository.findAllByUserIdAndDeliveryAddressIsNotNull(userId, pageable))
+			.thenReturn(new PageImpl<>(orders, pageable, 20));
+		when(orderItemRepository.findByOrders_OrdersIdIn(anyList())).thenReturn(items);
+
+		// When
+		orderService.getCustomerOrderListById(userId, pageable);
+
+		// Then: 주문 페이지 1회 + 주문 상품 1회
+		verify(ordersRepository, times(1)).findAllByUserIdAndDeliveryAddressIsNotNull(userId, pageable);
+		verify(orderItemRepository, times(1)).findByOrders_OrdersIdIn(argThat(ids -> ids.size() == 20));
+		verify(orderItemRepository, never()).findByOrders(any());
+	}
+}